@@ -0,0 +1,94 @@
+package com.event.eventscheduler.benchmark;
+
+import com.event.eventscheduler.Application;
+import com.event.eventscheduler.adapter.input.rest.mapper.EventMapper;
+import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.mapper.EventPersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the same window of events as managed entities and as {@link EventRow} projections,
+ * each mapped through to the REST response. Run with {@code -prof gc} to compare allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventReadPathBenchmark {
+
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2050, 1, 1, 8, 0);
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private EventPersistenceMapper persistenceMapper;
+    private EventMapper eventMapper;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(Application.class)
+                .profiles("dev")
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + rows,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        persistenceMapper = context.getBean(EventPersistenceMapper.class);
+        eventMapper = context.getBean(EventMapper.class);
+
+        List<EventEntity> events = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            EventEntity event = new EventEntity();
+            event.setTitle("Benchmark " + i);
+            event.setStartDate(FIRST_START.plusHours(i));
+            event.setEndDate(FIRST_START.plusHours(i).plusMinutes(30));
+            events.add(event);
+        }
+        context.getBean(EventRepository.class).saveAll(events);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public void readAsEntities(Blackhole blackhole) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("SELECT e FROM EventEntity e WHERE e.startDate >= :from", EventEntity.class)
+                .setParameter("from", FIRST_START)
+                .getResultList()
+                .forEach(entity -> blackhole.consume(eventMapper.toResponse(persistenceMapper.toDomain(entity, null)))));
+    }
+
+    @Benchmark
+    public void readAsProjections(Blackhole blackhole) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("SELECT " + EventRepository.ROW + " FROM EventEntity e WHERE e.startDate >= :from", EventRow.class)
+                .setParameter("from", FIRST_START)
+                .getResultList()
+                .forEach(row -> blackhole.consume(eventMapper.toResponse(persistenceMapper.toDomain(row, null)))));
+    }
+}
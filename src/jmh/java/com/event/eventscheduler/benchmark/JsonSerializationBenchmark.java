@@ -0,0 +1,48 @@
+package com.event.eventscheduler.benchmark;
+
+import com.event.eventscheduler.adapter.input.rest.dto.response.EventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a {@code List<EventResponse>} the way the controllers do, with Spring's default Jackson setup
+ * (ISO-8601 dates, not timestamps).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int events;
+
+    private ObjectMapper objectMapper;
+    private List<EventResponse> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        responses = new ArrayList<>(events);
+        LocalDateTime first = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int i = 0; i < events; i++) {
+            LocalDateTime start = first.plusDays(i);
+            responses.add(new EventResponse((long) i + 1, "Event " + i, start, start.plusHours(1), (i % 2 == 0) ? 1L : null));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeEventList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
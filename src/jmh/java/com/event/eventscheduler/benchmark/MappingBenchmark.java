@@ -0,0 +1,87 @@
+package com.event.eventscheduler.benchmark;
+
+import com.event.eventscheduler.adapter.input.rest.dto.response.EventResponse;
+import com.event.eventscheduler.adapter.input.rest.mapper.EventMapper;
+import com.event.eventscheduler.adapter.input.rest.mapper.RecurrenceRuleMapper;
+import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.mapper.EventPersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.mapper.RecurrenceRulePersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapper round trips for a list of events, half of them belonging to a series:
+ * domain -> entity -> domain -> response (the write path's copies) and row -> domain -> response (the read path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int events;
+
+    private EventPersistenceMapper persistenceMapper;
+    private EventMapper eventMapper;
+    private RecurrenceRule rule;
+    private List<Event> domainEvents;
+    private List<EventRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persistenceMapper = new EventPersistenceMapper();
+        ReflectionTestUtils.setField(persistenceMapper, "recurrenceRuleMapper", new RecurrenceRulePersistenceMapper());
+        eventMapper = new EventMapper(new RecurrenceRuleMapper());
+
+        rule = new RecurrenceRule();
+        rule.setId(1L);
+        rule.setFrequency(Frequency.DAILY);
+        rule.setStartDate(LocalDate.of(2030, 1, 1));
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
+        rule.setTitle("Series");
+
+        domainEvents = new ArrayList<>(events);
+        rows = new ArrayList<>(events);
+        LocalDateTime first = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int i = 0; i < events; i++) {
+            RecurrenceRule eventRule = (i % 2 == 0) ? rule : null;
+            LocalDateTime start = first.plusDays(i);
+            domainEvents.add(new Event((long) i + 1, "Event " + i, start, start.plusHours(1), eventRule));
+            rows.add(new EventRow((long) i + 1, "Event " + i, start, start.plusHours(1), eventRule != null ? 1L : null));
+        }
+    }
+
+    @Benchmark
+    public void domainThroughEntityToResponse(Blackhole blackhole) {
+        for (Event event : domainEvents) {
+            EventEntity entity = persistenceMapper.toEntity(event);
+            Event mapped = persistenceMapper.toDomain(entity, event.getRecurrenceRule());
+            blackhole.consume(eventMapper.toResponse(mapped));
+        }
+    }
+
+    @Benchmark
+    public void rowThroughDomainToResponse(Blackhole blackhole) {
+        for (EventRow row : rows) {
+            Event mapped = persistenceMapper.toDomain(row, row.ruleId() != null ? rule : null);
+            EventResponse response = eventMapper.toResponse(mapped);
+            blackhole.consume(response);
+        }
+    }
+}
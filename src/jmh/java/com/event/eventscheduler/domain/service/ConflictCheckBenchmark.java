@@ -0,0 +1,77 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventService#checkForConflict} against an in-memory store of back-to-back hour-long events
+ * with half-hour gaps. Candidates are drawn from a fixed seed, half landing in a gap and half clashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ConflictCheckBenchmark {
+
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int CANDIDATES = 1024;
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000"})
+    private int storedEvents;
+
+    private EventService eventService;
+    private LocalDateTime[] freeStarts;
+    private LocalDateTime[] clashingStarts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Event> events = new ArrayList<>(storedEvents);
+        for (int i = 0; i < storedEvents; i++) {
+            LocalDateTime start = slotStart(i);
+            events.add(new Event((long) i + 1, "Stored " + i, start, start.plusHours(1), null));
+        }
+        eventService = new EventService(new InMemoryEventRepositoryPort(events),
+                new InMemoryRecurrenceRuleRepositoryPort(), new DiscardingScheduleChangeNotifierPort());
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        freeStarts = new LocalDateTime[CANDIDATES];
+        clashingStarts = new LocalDateTime[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            int slot = random.nextInt(storedEvents);
+            freeStarts[i] = slotStart(slot).plusHours(1);                 // the 30-minute gap after a stored event
+            clashingStarts[i] = slotStart(slot).plusMinutes(30);
+        }
+    }
+
+    @Benchmark
+    public void checkFreeSlot() {
+        LocalDateTime start = freeStarts[next++ & (CANDIDATES - 1)];
+        eventService.checkForConflict(start, start.plusMinutes(30), null);
+    }
+
+    @Benchmark
+    public boolean checkClashingSlot() {
+        LocalDateTime start = clashingStarts[next++ & (CANDIDATES - 1)];
+        try {
+            eventService.checkForConflict(start, start.plusMinutes(30), null);
+            return false;
+        } catch (ScheduleConflictException expected) {
+            return true;
+        }
+    }
+
+    private static LocalDateTime slotStart(int index) {
+        return FIRST_START.plusMinutes(90L * index);
+    }
+}
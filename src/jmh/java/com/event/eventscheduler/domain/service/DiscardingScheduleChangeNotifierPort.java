@@ -0,0 +1,20 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.port.output.ScheduleChangeNotifierPort;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * No cache sits behind the benchmarks, so change notices are dropped.
+ */
+class DiscardingScheduleChangeNotifierPort implements ScheduleChangeNotifierPort {
+
+    @Override
+    public void daysChanged(Set<LocalDate> days) {
+    }
+
+    @Override
+    public void daysChangedFrom(LocalDate firstDay) {
+    }
+}
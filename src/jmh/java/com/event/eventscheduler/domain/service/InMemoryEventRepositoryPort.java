@@ -0,0 +1,128 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Read-only event store over a start-ordered list of non-overlapping events, so service benchmarks
+ * measure the domain code rather than a database. Since the events never overlap, their ends are
+ * ordered too and an overlap lookup is one binary search.
+ */
+class InMemoryEventRepositoryPort implements EventRepositoryPort {
+
+    private final List<Event> events;
+
+    InMemoryEventRepositoryPort(List<Event> events) {
+        this.events = new ArrayList<>(events);
+        this.events.sort(Comparator.comparing(Event::getStartDate));
+    }
+
+    @Override
+    public List<Event> findConflictingEvents(LocalDateTime newStart, LocalDateTime newEnd) {
+        List<Event> conflicts = new ArrayList<>();
+        for (int i = firstEndingAfter(newStart); i < events.size() && events.get(i).getStartDate().isBefore(newEnd); i++) {
+            conflicts.add(events.get(i));
+        }
+        return conflicts;
+    }
+
+    @Override
+    public List<Event> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude) {
+        List<Event> conflicts = findConflictingEvents(newStart, newEnd);
+        conflicts.removeIf(event -> eventIdToExclude.equals(event.getId()));
+        return conflicts;
+    }
+
+    @Override
+    public List<Event> findConflictingSingleEvents(List<TimeSlot> candidateSlots) {
+        List<Event> conflicts = new ArrayList<>();
+        for (TimeSlot slot : candidateSlots) {
+            for (Event event : findConflictingEvents(slot.getStart(), slot.getEnd())) {
+                if (event.getRecurrenceRule() == null) conflicts.add(event);
+            }
+        }
+        return conflicts;
+    }
+
+    @Override
+    public List<Event> findOverlapping(LocalDateTime from, LocalDateTime toExclusive) {
+        return findConflictingEvents(from, toExclusive);
+    }
+
+    @Override
+    public List<Event> findByStartDateBetween(LocalDateTime startBoundary, LocalDateTime endBoundary) {
+        return events.stream()
+                .filter(event -> !event.getStartDate().isBefore(startBoundary) && !event.getStartDate().isAfter(endBoundary))
+                .toList();
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return List.copyOf(events);
+    }
+
+    @Override
+    public void streamAll(Consumer<Event> consumer) {
+        events.forEach(consumer);
+    }
+
+    @Override
+    public void streamSingleEvents(Consumer<Event> consumer) {
+        events.stream()
+                .filter(event -> event.getRecurrenceRule() == null)
+                .forEach(consumer);
+    }
+
+    @Override
+    public boolean rejectsOverlappingWrites() {
+        return false;
+    }
+
+    @Override
+    public int archiveEndedBefore(LocalDateTime cutoff, int limit) {
+        throw new UnsupportedOperationException("Benchmark store is read-only");
+    }
+
+    @Override
+    public Event save(Event event) {
+        throw new UnsupportedOperationException("Benchmark store is read-only");
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        throw new UnsupportedOperationException("Benchmark store is read-only");
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    @Override
+    public List<Event> findPageAfter(EventCursor after, int limit) {
+        throw new UnsupportedOperationException("Not used by the benchmarks");
+    }
+
+    private int firstEndingAfter(LocalDateTime instant) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (events.get(mid).getEndDate().isAfter(instant)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
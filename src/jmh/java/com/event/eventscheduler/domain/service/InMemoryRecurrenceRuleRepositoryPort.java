@@ -0,0 +1,72 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Rule store with no virtual series, so conflict benchmarks exercise only the stored-event path.
+ */
+class InMemoryRecurrenceRuleRepositoryPort implements RecurrenceRuleRepositoryPort {
+
+    @Override
+    public RecurrenceRule save(RecurrenceRule recurrenceRule) {
+        return recurrenceRule;
+    }
+
+    @Override
+    public Optional<RecurrenceRule> findById(Long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<RecurrenceRule> findVirtualRulesActiveBetween(LocalDate from, LocalDate to) {
+        return List.of();
+    }
+
+    @Override
+    public List<RecurrenceRule> findAllVirtualRules() {
+        return List.of();
+    }
+
+    @Override
+    public void streamAll(Consumer<RecurrenceRule> consumer) {
+    }
+
+    @Override
+    public List<RecurrenceRule> findCandidateRules(Set<DayOfWeek> days, LocalTime startTime, LocalTime endTime,
+                                                   LocalDate from, LocalDate toExclusive) {
+        return List.of();
+    }
+
+    @Override
+    public List<RecurrenceRule> findRulesToMaterialize(LocalDate horizon, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<RecurrenceRule> findUnmaterializedRulesBetween(LocalDate from, LocalDate to) {
+        return List.of();
+    }
+
+    @Override
+    public List<RecurrenceRule> findAllUnmaterializedRules() {
+        return List.of();
+    }
+
+    @Override
+    public boolean advanceMaterializedUntil(Long ruleId, LocalDate expected, LocalDate until) {
+        return false;
+    }
+
+    @Override
+    public void addExDates(Long ruleId, Set<LocalDate> dates) {
+    }
+}
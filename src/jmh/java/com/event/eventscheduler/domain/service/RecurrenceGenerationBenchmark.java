@@ -0,0 +1,70 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expands series of increasing length through {@link EventService#generateEventsFromRule}.
+ * Every shape starts on a fixed date, so runs are comparable across machines and commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RecurrenceGenerationBenchmark {
+
+    private static final LocalDate SERIES_START = LocalDate.of(2030, 1, 1);
+
+    @Param({"DAILY_COUNT_10", "DAILY_OPEN_ENDED", "WEEKLY_3_DAYS_COUNT_1000", "MONTHLY_UNTIL_10_YEARS"})
+    private String shape;
+
+    private EventService eventService;
+    private RecurrenceRule rule;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventService = new EventService(new InMemoryEventRepositoryPort(List.of()),
+                new InMemoryRecurrenceRuleRepositoryPort(), new DiscardingScheduleChangeNotifierPort());
+
+        rule = new RecurrenceRule();
+        rule.setStartDate(SERIES_START);
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
+        rule.setTitle("Benchmark Series");
+
+        switch (shape) {
+            case "DAILY_COUNT_10" -> {
+                rule.setFrequency(Frequency.DAILY);
+                rule.setCount(10);
+            }
+            case "DAILY_OPEN_ENDED" -> rule.setFrequency(Frequency.DAILY);     // cut at one year: 366 occurrences
+            case "WEEKLY_3_DAYS_COUNT_1000" -> {
+                rule.setFrequency(Frequency.WEEKLY);
+                rule.setByDay(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+                rule.setCount(1000);
+            }
+            case "MONTHLY_UNTIL_10_YEARS" -> {
+                rule.setFrequency(Frequency.MONTHLY);
+                rule.setRepeatUntilDate(SERIES_START.plusYears(10));
+            }
+            default -> throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+        RecurrenceExpander.validate(rule);
+    }
+
+    @Benchmark
+    public List<Event> generateEventsFromRule() {
+        return eventService.generateEventsFromRule(rule, rule.getTitle());
+    }
+}
@@ -0,0 +1,132 @@
+package com.event.eventscheduler.adapter.input.rest.cache;
+
+import com.event.eventscheduler.adapter.output.notification.ScheduleChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of serialized {@code GET /api/events?date=} responses, keyed by day.
+ * A hit returns the stored JSON bytes without touching the use case, the mappers or Jackson.
+ * Entries are dropped when a committed write touches their day, or every entry from a day on when the
+ * write has no last day.
+ * <p>
+ * The same notice bumps a per-day version, from which {@link #eTag} derives the ETags of the day and
+ * range endpoints. Versions are striped over a fixed array, so two days sharing a stripe only cost
+ * each other a spurious change, never a missed one. A write with no last day bumps a version shared by
+ * every ETag instead, as it would reach every stripe anyway.
+ */
+@Component
+public class DayResponseCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "events-by-day";
+    private static final int VERSION_STRIPES = 4096;
+
+    private final Map<LocalDate, byte[]> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Bumped on every invalidation; a load that raced with one is served but not stored
+    private long generation;
+
+    // Only ever increase, so the sum over a set of days changes whenever one of them does
+    private final long[] versions = new long[VERSION_STRIPES];
+
+    // Counted into every ETag; bumped by writes that change every day from some day on
+    private long unboundedVersion;
+
+    // Versions restart at zero with the process, so ETags from an earlier run must never match
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public DayResponseCache(@Value("${scheduler.day-cache.max-entries:1024}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, byte[]> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public byte[] get(LocalDate day, Supplier<byte[]> loader) {
+        long seenGeneration;
+        synchronized (this) {
+            byte[] cached = entries.get(day);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            seenGeneration = generation;
+        }
+        misses.increment();
+
+        byte[] body = loader.get();
+
+        synchronized (this) {
+            if (generation == seenGeneration) {
+                entries.put(day, body);
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Strong ETag for the events of the days [from, to]. Read it before loading the body: a write
+     * committing in between then only makes the next request miss, it never pairs an old tag with new data.
+     */
+    public synchronized String eTag(LocalDate from, LocalDate to) {
+        long version = unboundedVersion;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            version += versions[stripe(day)];
+        }
+        return "\"" + epoch + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    // Entries and versions change under one lock, so a request seeing the new version never gets the old body
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleChanged(ScheduleChangedEvent event) {
+        generation++;
+        event.getDays().forEach(day -> {
+            entries.remove(day);
+            versions[stripe(day)]++;
+        });
+        if (event.getChangedFrom() != null) {
+            entries.keySet().removeIf(day -> !day.isBefore(event.getChangedFrom()));
+            unboundedVersion++;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static int stripe(LocalDate day) {
+        return Math.floorMod(day.toEpochDay(), VERSION_STRIPES);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.size", this, DayResponseCache::size)
+                .tags("cache", CACHE_NAME).register(registry);
+    }
+}
@@ -4,47 +4,104 @@ package com.event.eventscheduler.adapter.input.rest.controller;
 import com.event.eventscheduler.adapter.input.rest.dto.request.CyclicEventRequest;
 import com.event.eventscheduler.adapter.input.rest.dto.request.EventUpdateRequest;
 import com.event.eventscheduler.adapter.input.rest.dto.request.SingleEventRequest;
+import com.event.eventscheduler.adapter.input.rest.dto.response.BulkItemResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.CalendarImportProgressResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.EventPageResponse;
 import com.event.eventscheduler.adapter.input.rest.dto.response.EventResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.TimeSlotResponse;
 
 // Mappers (Web Adapter)
 import com.event.eventscheduler.adapter.input.rest.mapper.EventMapper;
 
+// Response Cache (Web Adapter)
+import com.event.eventscheduler.adapter.input.rest.cache.DayResponseCache;
+
+// iCalendar and bulk JSON (Web Adapter)
+import com.event.eventscheduler.adapter.input.rest.ical.CalendarImporter;
+import com.event.eventscheduler.adapter.input.rest.ical.ICalendarReader;
+import com.event.eventscheduler.adapter.input.rest.ical.ICalendarWriter;
+import com.event.eventscheduler.adapter.input.rest.json.BulkEventReader;
+
 // Commands (Domain)
 import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
 import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
 import com.event.eventscheduler.domain.port.input.command.UpdateEventCommand;
 
 // Use Cases (Domain Ports)
+import com.event.eventscheduler.domain.port.input.BulkCreateEventsUseCase;
 import com.event.eventscheduler.domain.port.input.CreateCyclicEventUseCase;
 import com.event.eventscheduler.domain.port.input.CreateEventUseCase;
+import com.event.eventscheduler.domain.port.input.ExportCalendarUseCase;
+import com.event.eventscheduler.domain.port.input.FindFreeSlotsUseCase;
 import com.event.eventscheduler.domain.port.input.GetEventsUseCase;
 import com.event.eventscheduler.domain.port.input.UpdateEventUseCase;
 
 // Domain Model
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventPage;
+import com.event.eventscheduler.domain.service.DateRanges;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
 
+@Slf4j
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final String LISTED_UNTIL_HEADER = "X-Listed-Until";
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     private final CreateEventUseCase createEventUseCase;
     private final CreateCyclicEventUseCase createCyclicEventUseCase;
     private final GetEventsUseCase getEventsUseCase;
     private final UpdateEventUseCase updateEventUseCase;
+    private final BulkCreateEventsUseCase bulkCreateEventsUseCase;
+    private final FindFreeSlotsUseCase findFreeSlotsUseCase;
+    private final ExportCalendarUseCase exportCalendarUseCase;
     private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final DayResponseCache dayResponseCache;
+    private final BulkEventReader bulkEventReader;
+    private final CalendarImporter calendarImporter;
 
     @PostMapping("/single")
     public ResponseEntity<EventResponse> addSingleEvent(@Valid @RequestBody SingleEventRequest request) {
@@ -75,33 +132,232 @@ public class EventController {
         return new ResponseEntity<>(responses, HttpStatus.CREATED);
     }
 
+    /**
+     * Imports a JSON array of single events. Responds 201 when every item was created, 409 when an
+     * all-or-nothing import was rejected, and 200 when a partial import created only some items.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResponse>> addEvents(
+            InputStream body,
+            @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkImportMode mode) throws IOException {
+        // Read the array one item at a time straight into Commands
+        List<CreateSingleEventCommand> commands = bulkEventReader.read(body);
+
+        // Call the Use Case
+        List<BulkItemResult> results = bulkCreateEventsUseCase.createEvents(commands, mode);
+
+        // Map List<Domain> -> List<DTO>
+        List<BulkItemResponse> responses = results.stream()
+                .map(eventMapper::toBulkItemResponse)
+                .collect(Collectors.toList());
+
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == BulkItemStatus.CREATED);
+        HttpStatus status = allCreated ? HttpStatus.CREATED
+                : mode == BulkImportMode.ALL_OR_NOTHING ? HttpStatus.CONFLICT : HttpStatus.OK;
+        return new ResponseEntity<>(responses, status);
+    }
+
+    // The body is pre-serialized JSON, so its schema is declared here rather than inferred from byte[]
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getEventsForDate(
-            @RequestParam("date") LocalDate date) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = EventResponse.class))))
+    public ResponseEntity<byte[]> getEventsForDate(
+            @RequestParam("date") LocalDate date,
+            WebRequest webRequest) {
+        // A poller whose copy is still current gets a 304 from the day's version alone
+        String eTag = dayResponseCache.eTag(date, date);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // Serve the day's JSON from the cache; only a miss calls the Use Case and the mappers
+        byte[] body = dayResponseCache.get(date, () -> {
+            List<EventResponse> responses = getEventsUseCase.getEventsForDate(date).stream()
+                    .map(eventMapper::toResponse)
+                    .collect(Collectors.toList());
+            return writeJson(responses);
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .body(body);
+    }
+
+    @GetMapping("/range")
+    public ResponseEntity<List<EventResponse>> getEventsBetween(
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to,
+            WebRequest webRequest) {
+        // Checked before the ETag, which walks every day of the range
+        DateRanges.validate(from, to);
+        String eTag = dayResponseCache.eTag(from, to);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         // Call the Use Case
-        List<Event> domainEvents = getEventsUseCase.getEventsForDate(date);
+        List<Event> domainEvents = getEventsUseCase.getEventsBetween(from, to);
 
         // Map List<Domain> -> List<DTO>
         List<EventResponse> responses = domainEvents.stream()
                 .map(eventMapper::toResponse)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().eTag(eTag).body(responses);
     }
 
-    @GetMapping("/all")
-    public ResponseEntity<List<EventResponse>> findAll() {
+    @GetMapping(value = "/range", params = "groupByDay=true")
+    public ResponseEntity<Map<LocalDate, List<EventResponse>>> getEventsByDay(
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to,
+            WebRequest webRequest) {
+        // Checked before the ETag, which walks every day of the range
+        DateRanges.validate(from, to);
+        String eTag = dayResponseCache.eTag(from, to);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         // Call the Use Case
-        List<Event> domainEvents = getEventsUseCase.findAll();
+        Map<LocalDate, List<Event>> domainEvents = getEventsUseCase.getEventsByDay(from, to);
 
-        // Map List<Domain> -> List<DTO>
-        List<EventResponse> responses = domainEvents.stream()
+        // Map each day's List<Domain> -> List<DTO>, keeping the day order
+        Map<LocalDate, List<EventResponse>> responses = new LinkedHashMap<>();
+        domainEvents.forEach((day, events) -> responses.put(day, events.stream()
                 .map(eventMapper::toResponse)
+                .collect(Collectors.toList())));
+
+        return ResponseEntity.ok().eTag(eTag).body(responses);
+    }
+
+    @GetMapping("/free")
+    public ResponseEntity<List<TimeSlotResponse>> getFreeSlots(
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to,
+            @RequestParam(value = "minMinutes", defaultValue = "30") int minMinutes,
+            @RequestParam(value = "workdayStart", required = false) LocalTime workdayStart,
+            @RequestParam(value = "workdayEnd", required = false) LocalTime workdayEnd) {
+        // Call the Use Case
+        List<TimeSlotResponse> responses = findFreeSlotsUseCase
+                .findFreeSlots(from, to, Duration.ofMinutes(minMinutes), workdayStart, workdayEnd).stream()
+                .map(eventMapper::toSlotResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/free/next")
+    public ResponseEntity<List<TimeSlotResponse>> getAvailableSlots(
+            @RequestParam("after") LocalDateTime after,
+            @RequestParam("minutes") int minutes,
+            @RequestParam(value = "count", defaultValue = "1") int count,
+            @RequestParam(value = "workdayStart", required = false) LocalTime workdayStart,
+            @RequestParam(value = "workdayEnd", required = false) LocalTime workdayEnd) {
+        // Call the Use Case
+        List<TimeSlotResponse> responses = findFreeSlotsUseCase
+                .findAvailableSlots(after, Duration.ofMinutes(minutes), count, workdayStart, workdayEnd).stream()
+                .map(eventMapper::toSlotResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/all")
+    @Operation(description = "Pages through every event. Occurrences of series without an end are listed on dates "
+            + "before the page's listedUntil only; query a date or range to see them further ahead.")
+    public ResponseEntity<EventPageResponse> findAll(
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        // Call the Use Case, resuming after the decoded cursor
+        EventPage page = getEventsUseCase.findPage(eventMapper.decodeCursor(cursor), limit);
+
+        // Map Domain -> DTO
+        return ResponseEntity.ok(eventMapper.toPageResponse(page));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams every event, one JSON object per line. Occurrences of series without an end are "
+            + "listed on dates before the " + LISTED_UNTIL_HEADER + " header only; query a date or range to see them further ahead.")
+    @ApiResponse(responseCode = "200", headers = @Header(name = LISTED_UNTIL_HEADER, schema = @Schema(implementation = LocalDate.class)))
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        // The use case runs on the async thread while the response is written, one line per event
+        StreamingResponseBody body = out -> getEventsUseCase.streamAll(event -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(eventMapper.toResponse(event)));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(LISTED_UNTIL_HEADER, getEventsUseCase.listingHorizon().toString())
+                .body(body);
+    }
+
+    @GetMapping(value = "/calendar.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> exportCalendar() {
+        // Written while the rules and the single events are read, one VEVENT per series or event
+        StreamingResponseBody body = out -> {
+            ICalendarWriter writer = new ICalendarWriter(out);
+            writer.begin();
+            exportCalendarUseCase.exportCalendar(writer::writeSeries, writer::writeEvent);
+            writer.end();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .body(body);
+    }
+
+    /**
+     * Imports an iCalendar file while it is uploaded, {@value #IMPORT_BATCH_SIZE} VEVENTs per transaction.
+     * Every batch is answered with one NDJSON progress line; the last one has {@code done} set, and
+     * {@code error} too when a batch failed and the import stopped there. UTC and TZID times are converted
+     * to the server's default time zone, since events are stored as local times.
+     */
+    @PostMapping(value = "/import", consumes = "text/calendar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importCalendar(
+            InputStream body,
+            @RequestParam(value = "virtual", defaultValue = "false") boolean virtual) {
+        // Read the header now, so a body that is not a calendar at all is answered with a 400
+        ICalendarReader reader = new ICalendarReader(body, ZoneId.systemDefault(), virtual);
+
+        StreamingResponseBody response = out -> {
+            CalendarImportProgressResponse progress = new CalendarImportProgressResponse(0, 0, 0, List.of(), false, null);
+            try {
+                List<ICalendarReader.Entry> batch;
+                while (!(batch = reader.nextBatch(IMPORT_BATCH_SIZE)).isEmpty()) {
+                    calendarImporter.importBatch(batch, progress);
+                    out.write(writeJson(progress));
+                    out.write('\n');
+                    out.flush();
+                }
+            } catch (RuntimeException ex) {
+                // The 200 and earlier lines are already sent, so the reason goes into the last line instead
+                log.warn("Calendar import stopped after {} VEVENTs", progress.getProcessed(), ex);
+                String reason = ex instanceof ScheduleConflictException || ex instanceof IllegalArgumentException
+                        ? ex.getMessage() : "the batch could not be read or saved.";
+                progress.setError("Import stopped after " + progress.getProcessed() + " VEVENTs; the next batch was not saved: " + reason);
+            }
+            progress.setRejections(List.of());
+            progress.setDone(true);
+            out.write(writeJson(progress));
+            out.write('\n');
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> updateSingleEvent(
             @PathVariable Long id,
@@ -122,4 +378,12 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
 }
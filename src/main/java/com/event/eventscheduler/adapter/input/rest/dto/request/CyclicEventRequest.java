@@ -1,5 +1,6 @@
 package com.event.eventscheduler.adapter.input.rest.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -23,6 +24,11 @@ public class CyclicEventRequest {
     @NotNull(message = "Please define the end date of the event")
     private LocalTime endTime;
 
+    @Valid
+    @NotNull(message = "Please define the recurrence rule")
     private RecurrenceRuleRequest recurrenceRule;
 
+    // When true only the rule is stored; occurrences are expanded when read
+    private boolean virtual;
+
 }
@@ -1,8 +1,9 @@
 package com.event.eventscheduler.adapter.input.rest.dto.request;
 
 
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import com.event.eventscheduler.domain.model.Frequency;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.Setter;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -18,11 +20,26 @@ import java.time.LocalTime;
 @NoArgsConstructor
 public class RecurrenceRuleRequest {
 
-    private DayOfWeek dateOfWeek;
+    @NotNull(message = "Frequency is required (DAILY, WEEKLY, MONTHLY or YEARLY)")
+    private Frequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    private Integer interval;
+
+    private Set<DayOfWeek> byDay;
+
+    @Min(value = 1, message = "Count must be at least 1")
+    private Integer count;
 
     private LocalDate repeatUntilDate;
 
+    private Set<LocalDate> exDates;
+
+    private LocalDate startDate;
+
+    @NotNull(message = "Please define the start time of the occurrences")
     private LocalTime startTime;
 
+    @NotNull(message = "Please define the end time of the occurrences")
     private LocalTime endTime;
 }
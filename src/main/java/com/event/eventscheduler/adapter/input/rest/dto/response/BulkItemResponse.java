@@ -0,0 +1,20 @@
+package com.event.eventscheduler.adapter.input.rest.dto.response;
+
+import com.event.eventscheduler.domain.model.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResponse {
+
+    private int index;              // Position of the item in the request array
+    private BulkItemStatus status;
+    private EventResponse event;    // Only set for CREATED items
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.event.eventscheduler.adapter.input.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarImportProgressResponse {
+
+    private int processed;                      // VEVENTs read so far
+    private int created;
+    private int rejected;
+    private List<BulkItemResponse> rejections;  // Rejected since the previous line; index is the VEVENT's position in the file
+    private boolean done;
+    private String error;                       // Why the import stopped early; only ever set on the last line
+}
@@ -0,0 +1,21 @@
+package com.event.eventscheduler.adapter.input.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventPageResponse {
+
+    private List<EventResponse> events;
+    private String next;    // Opaque cursor for the following page; null on the last page
+    private LocalDate listedUntil;    // Series without an end are listed on dates before this one only
+}
@@ -1,5 +1,6 @@
 package com.event.eventscheduler.adapter.input.rest.dto.response;
 
+import com.event.eventscheduler.domain.model.Frequency;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Setter;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -16,8 +18,13 @@ import java.time.LocalTime;
 public class RecurrenceRuleResponse {
 
     private Long id;
-    private DayOfWeek dateOfWeek;
+    private Frequency frequency;
+    private int interval;
+    private Set<DayOfWeek> byDay;
+    private Integer count;
     private LocalDate repeatUntilDate;
+    private Set<LocalDate> exDates;
+    private LocalDate startDate;
     private LocalTime startTime;
     private LocalTime endTime;
 }
@@ -0,0 +1,19 @@
+package com.event.eventscheduler.adapter.input.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeSlotResponse {
+
+    private LocalDateTime start;
+    private LocalDateTime end;      // Exclusive
+}
@@ -0,0 +1,59 @@
+package com.event.eventscheduler.adapter.input.rest.ical;
+
+import com.event.eventscheduler.adapter.input.rest.dto.response.BulkItemResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.CalendarImportProgressResponse;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
+import com.event.eventscheduler.domain.port.input.ImportCalendarUseCase;
+import com.event.eventscheduler.domain.port.input.command.CalendarImportItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hands the batches of an {@link ICalendarReader} to the import use case and keeps the import's progress,
+ * with unreadable and rejected VEVENTs listed by their position in the file.
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarImporter {
+
+    private final ImportCalendarUseCase importCalendarUseCase;
+
+    /**
+     * Saves the batch's readable VEVENTs in one call and adds the outcome to {@code progress}.
+     */
+    public void importBatch(List<ICalendarReader.Entry> batch, CalendarImportProgressResponse progress) {
+        List<CalendarImportItem> items = new ArrayList<>();
+        List<Integer> fileIndexes = new ArrayList<>();
+        List<BulkItemResponse> rejections = new ArrayList<>();
+        for (ICalendarReader.Entry entry : batch) {
+            if (entry.item() != null) {
+                items.add(entry.item());
+                fileIndexes.add(entry.index());
+            } else {
+                rejections.add(new BulkItemResponse(entry.index(), BulkItemStatus.INVALID, null, entry.problem()));
+            }
+        }
+
+        int created = 0;
+        if (!items.isEmpty()) {
+            for (BulkItemResult result : importCalendarUseCase.importBatch(items)) {
+                if (result.getStatus() == BulkItemStatus.CREATED) {
+                    created++;
+                } else {
+                    rejections.add(new BulkItemResponse(fileIndexes.get(result.getIndex()), result.getStatus(), null, result.getMessage()));
+                }
+            }
+        }
+        rejections.sort(Comparator.comparingInt(BulkItemResponse::getIndex));
+
+        progress.setProcessed(progress.getProcessed() + batch.size());
+        progress.setCreated(progress.getCreated() + created);
+        progress.setRejected(progress.getRejected() + rejections.size());
+        progress.setRejections(rejections);
+    }
+}
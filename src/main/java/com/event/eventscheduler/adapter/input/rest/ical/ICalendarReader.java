@@ -0,0 +1,448 @@
+package com.event.eventscheduler.adapter.input.rest.ical;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.port.input.command.CalendarImportItem;
+import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import com.event.eventscheduler.domain.port.input.command.RecurrenceRuleCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads an RFC 5545 iCalendar stream one VEVENT at a time, so only the event being read is held in memory.
+ * <p>
+ * A VEVENT becomes a single event, or a series when it carries an RRULE. Times are stored as local times, so
+ * UTC and TZID values are converted to the given zone and floating values are taken as they are. A VEVENT
+ * the scheduler cannot represent comes back with the reason instead of an item.
+ */
+public class ICalendarReader {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern WEEKS = Pattern.compile("([+-]?)P(\\d+)W");
+
+    /**
+     * One VEVENT, numbered from 0 in file order; exactly one of {@code item} and {@code problem} is set.
+     */
+    public record Entry(int index, CalendarImportItem item, String problem) {
+    }
+
+    private final BufferedReader in;
+    private final ZoneId zone;
+    private final boolean virtual;
+
+    private String lookahead;   // Next physical line, read to find out whether it continues the current one
+    private boolean finished;
+    private int index;
+
+    /**
+     * @throws IllegalArgumentException if the stream does not start with BEGIN:VCALENDAR
+     */
+    public ICalendarReader(InputStream in, ZoneId zone, boolean virtual) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.zone = zone;
+        this.virtual = virtual;
+
+        ContentLine first = nextLine();
+        if (first == null || !first.is("BEGIN", "VCALENDAR")) {
+            throw new IllegalArgumentException("Not an iCalendar stream: it must start with BEGIN:VCALENDAR.");
+        }
+    }
+
+    /**
+     * Reads up to {@code max} further VEVENTs; an empty list means the calendar is exhausted.
+     */
+    public List<Entry> nextBatch(int max) {
+        List<Entry> batch = new ArrayList<>(Math.min(max, 1024));
+        Entry entry;
+        while (batch.size() < max && (entry = next()) != null) {
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /**
+     * Reads the next VEVENT, skipping every other component and calendar property; null at the end.
+     */
+    public Entry next() {
+        ContentLine line;
+        while (!finished && (line = nextLine()) != null) {
+            if (line.is("BEGIN", "VEVENT")) {
+                return readEvent(index++);
+            }
+            if (line.is("END", "VCALENDAR")) {
+                break;
+            }
+        }
+        finished = true;
+        return null;
+    }
+
+    private Entry readEvent(int eventIndex) {
+        Map<String, ContentLine> properties = new HashMap<>();
+        List<ContentLine> exDates = new ArrayList<>();
+
+        ContentLine line;
+        while ((line = nextLine()) != null && !line.is("END", "VEVENT")) {
+            if (line.name.equals("BEGIN")) {
+                // VALARM and any other nested component says nothing about when the event takes place
+                skipComponent();
+            } else if (line.name.equals("EXDATE")) {
+                exDates.add(line);
+            } else {
+                properties.putIfAbsent(line.name, line);
+            }
+        }
+        if (line == null) {
+            finished = true;
+            return new Entry(eventIndex, null, "VEVENT is not terminated by END:VEVENT.");
+        }
+
+        try {
+            return new Entry(eventIndex, toItem(properties, exDates), null);
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            return new Entry(eventIndex, null, ex.getMessage());
+        }
+    }
+
+    private CalendarImportItem toItem(Map<String, ContentLine> properties, List<ContentLine> exDates) {
+        if (properties.containsKey("RECURRENCE-ID")) {
+            throw new IllegalArgumentException("Overridden occurrences (RECURRENCE-ID) are not supported.");
+        }
+        if (properties.containsKey("RDATE")) {
+            throw new IllegalArgumentException("RDATE is not supported.");
+        }
+
+        ContentLine summary = properties.get("SUMMARY");
+        String title = summary != null ? unescape(summary.value).strip() : "";
+        if (title.isEmpty()) {
+            throw new IllegalArgumentException("VEVENT has no SUMMARY.");
+        }
+
+        ContentLine dtStart = properties.get("DTSTART");
+        if (dtStart == null) {
+            throw new IllegalArgumentException("VEVENT has no DTSTART.");
+        }
+        LocalDateTime start = dateTime(dtStart);
+        LocalDateTime end = end(properties, dtStart, start);
+
+        ContentLine rrule = properties.get("RRULE");
+        if (rrule == null) {
+            return new CalendarImportItem(new CreateSingleEventCommand(title, start, end), null);
+        }
+
+        if (!end.toLocalDate().equals(start.toLocalDate()) || !end.isAfter(start)) {
+            throw new IllegalArgumentException("Recurring events must start and end on the same day.");
+        }
+        RecurrenceRuleCommand rule = rule(rrule.value, start);
+        rule.setEndTime(end.toLocalTime());
+        Set<LocalDate> excluded = new HashSet<>();
+        for (ContentLine exDate : exDates) {
+            for (String value : exDate.value.split(",")) {
+                excluded.add(dateTime(new ContentLine(exDate.name, exDate.parameters, value)).toLocalDate());
+            }
+        }
+        rule.setExDates(excluded);
+        return new CalendarImportItem(null, new CreateCyclicEventCommand(title, rule, virtual));
+    }
+
+    /**
+     * DTEND when given, else DTSTART plus DURATION; without either an all-day event lasts one day.
+     * Any other event would end when it starts, and zero-length events are not stored, so it is rejected.
+     */
+    private LocalDateTime end(Map<String, ContentLine> properties, ContentLine dtStart, LocalDateTime start) {
+        ContentLine dtEnd = properties.get("DTEND");
+        if (dtEnd != null) {
+            return dateTime(dtEnd);
+        }
+        ContentLine duration = properties.get("DURATION");
+        if (duration != null) {
+            return start.plus(duration(duration.value));
+        }
+        if (!isDate(dtStart)) {
+            throw new IllegalArgumentException("VEVENT has neither DTEND nor DURATION, so it takes no time.");
+        }
+        return start.plusDays(1);
+    }
+
+    /**
+     * Maps FREQ, INTERVAL, BYDAY and COUNT one to one, and UNTIL to the last date it lets an occurrence start.
+     * Parts that only restate DTSTART (BYMONTHDAY of its day, BYMONTH of its month, WKST where the week start
+     * makes no difference) are accepted; any other part, or BYMONTHDAY and BYMONTH next to a BYDAY they would
+     * narrow, changes which dates the series falls on, so the event is rejected.
+     */
+    private RecurrenceRuleCommand rule(String value, LocalDateTime start) {
+        RecurrenceRuleCommand rule = new RecurrenceRuleCommand();
+        rule.setStartDate(start.toLocalDate());
+        rule.setStartTime(start.toLocalTime());
+        String weekStart = null;
+        String monthDay = null;
+        String month = null;
+        String until = null;
+
+        for (String part : value.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Malformed RRULE part '" + part + "'.");
+            }
+            String name = part.substring(0, equals).toUpperCase();
+            String partValue = part.substring(equals + 1);
+            switch (name) {
+                case "FREQ" -> rule.setFrequency(frequency(partValue));
+                case "INTERVAL" -> rule.setInterval(Integer.parseInt(partValue));
+                case "COUNT" -> rule.setCount(Integer.parseInt(partValue));
+                case "UNTIL" -> until = partValue;
+                case "BYDAY" -> rule.setByDay(weekdays(partValue));
+                case "WKST" -> weekStart = partValue.toUpperCase();
+                case "BYMONTHDAY" -> monthDay = partValue;
+                case "BYMONTH" -> month = partValue;
+                default -> throw new IllegalArgumentException("RRULE part " + name + " is not supported.");
+            }
+        }
+
+        if (rule.getFrequency() == null) {
+            throw new IllegalArgumentException("RRULE has no FREQ.");
+        }
+        if (until != null) {
+            rule.setRepeatUntilDate(lastDate(new ContentLine("UNTIL", Map.of(), until), start.toLocalTime()));
+        }
+        boolean yearly = rule.getFrequency() == Frequency.YEARLY;
+        boolean byDay = rule.getByDay() != null && !rule.getByDay().isEmpty();
+        if ((monthDay != null || month != null) && byDay) {
+            // With BYDAY they narrow the weekdays (FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13), which the rule cannot express
+            throw new IllegalArgumentException("RRULE BYMONTHDAY and BYMONTH are not supported together with BYDAY.");
+        }
+        // A yearly BYMONTHDAY without BYMONTH expands to that day of every month
+        if (monthDay != null && (!(yearly ? month != null : rule.getFrequency() == Frequency.MONTHLY)
+                || !monthDay.equals(String.valueOf(start.getDayOfMonth())))) {
+            throw new IllegalArgumentException("RRULE BYMONTHDAY is only supported as DTSTART's day of month.");
+        }
+        if (month != null && (!yearly || !month.equals(String.valueOf(start.getMonthValue())))) {
+            throw new IllegalArgumentException("RRULE BYMONTH is only supported as DTSTART's month.");
+        }
+        // Weeks are counted from Monday; another week start moves the dates of a multi-week rule unless
+        // every occurrence falls on DTSTART's weekday
+        boolean weekStartMatters = rule.getFrequency() == Frequency.WEEKLY
+                && rule.getInterval() != null && rule.getInterval() > 1
+                && byDay && !rule.getByDay().equals(EnumSet.of(start.getDayOfWeek()));
+        if (weekStart != null && !weekStart.equals("MO") && weekStartMatters) {
+            throw new IllegalArgumentException("RRULE WKST other than MO is not supported.");
+        }
+        return rule;
+    }
+
+    private static Frequency frequency(String value) {
+        try {
+            return Frequency.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("RRULE FREQ " + value + " is not supported.");
+        }
+    }
+
+    private static Set<DayOfWeek> weekdays(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : value.split(",")) {
+            days.add(weekday(day.strip().toUpperCase()));
+        }
+        return days;
+    }
+
+    private static DayOfWeek weekday(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (code.length() == 2 && day.name().startsWith(code)) {
+                return day;
+            }
+        }
+        // Ordinal days such as 1MO or -1FR pick one weekday of the month or year
+        throw new IllegalArgumentException("RRULE BYDAY value " + code + " is not supported.");
+    }
+
+    private LocalDateTime dateTime(ContentLine property) {
+        String value = property.value.strip();
+        if (isDate(property)) {
+            return LocalDate.parse(value, DATE).atStartOfDay();
+        }
+        if (value.endsWith("Z") || value.endsWith("z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                    .atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(zone)
+                    .toLocalDateTime();
+        }
+        LocalDateTime local = LocalDateTime.parse(value, DATE_TIME);
+        ZoneId source = zoneOf(property.parameters.get("TZID"));
+        return source == null ? local : local.atZone(source).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    /**
+     * The last date the series can occur on. A date-time UNTIL also bounds the start time, so its own date is
+     * excluded when it falls earlier in the day than the occurrences start.
+     */
+    private LocalDate lastDate(ContentLine until, LocalTime startTime) {
+        LocalDateTime last = dateTime(until);
+        if (!isDate(until) && last.toLocalTime().isBefore(startTime)) {
+            return last.toLocalDate().minusDays(1);
+        }
+        return last.toLocalDate();
+    }
+
+    private static boolean isDate(ContentLine property) {
+        return "DATE".equalsIgnoreCase(property.parameters.get("VALUE")) || property.value.strip().length() == 8;
+    }
+
+    /**
+     * The TZID's zone when it is an IANA name; custom VTIMEZONE names are taken as floating time.
+     */
+    private static ZoneId zoneOf(String tzid) {
+        if (tzid == null) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * RFC 5545 durations are ISO 8601 ones, except that weeks may stand alone.
+     */
+    private static Duration duration(String value) {
+        Matcher weeks = WEEKS.matcher(value.strip());
+        if (weeks.matches()) {
+            Duration duration = Duration.ofDays(7L * Long.parseLong(weeks.group(2)));
+            return weeks.group(1).equals("-") ? duration.negated() : duration;
+        }
+        return Duration.parse(value.strip());
+    }
+
+    static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                unescaped.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private void skipComponent() {
+        int depth = 1;
+        ContentLine line;
+        while (depth > 0 && (line = nextLine()) != null) {
+            if (line.name.equals("BEGIN")) {
+                depth++;
+            } else if (line.name.equals("END")) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the next content line, unfolding continuation lines (those starting with a space or a tab)
+     * and skipping blank ones; null at the end of the stream.
+     */
+    private ContentLine nextLine() {
+        try {
+            String line;
+            do {
+                line = lookahead != null ? lookahead : in.readLine();
+                lookahead = null;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            if (line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+
+            StringBuilder unfolded = null;
+            while ((lookahead = in.readLine()) != null
+                    && !lookahead.isEmpty() && (lookahead.charAt(0) == ' ' || lookahead.charAt(0) == '\t')) {
+                if (unfolded == null) {
+                    unfolded = new StringBuilder(line);
+                }
+                unfolded.append(lookahead, 1, lookahead.length());
+            }
+            return ContentLine.parse(unfolded != null ? unfolded.toString() : line);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * {@code NAME;PARAM=value;...:value}, with the name and parameter names upper-cased. Parameter values may
+     * be quoted, so colons and semicolons inside quotes do not end them.
+     */
+    private record ContentLine(String name, Map<String, String> parameters, String value) {
+
+        static ContentLine parse(String line) {
+            Map<String, String> parameters = new HashMap<>();
+            int nameEnd = -1;
+            int paramStart = -1;
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && (c == ';' || c == ':')) {
+                    if (nameEnd < 0) {
+                        nameEnd = i;
+                    } else {
+                        addParameter(parameters, line.substring(paramStart, i));
+                    }
+                    if (c == ':') {
+                        return new ContentLine(line.substring(0, nameEnd).toUpperCase(), parameters, line.substring(i + 1));
+                    }
+                    paramStart = i + 1;
+                }
+            }
+            // No value at all; keep the line as the name so it is ignored like any unknown property
+            return new ContentLine(line.toUpperCase(), parameters, "");
+        }
+
+        private static void addParameter(Map<String, String> parameters, String parameter) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                String value = parameter.substring(equals + 1);
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                parameters.put(parameter.substring(0, equals).toUpperCase(), value);
+            }
+        }
+
+        boolean is(String name, String value) {
+            return this.name.equals(name) && this.value.strip().equalsIgnoreCase(value);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.event.eventscheduler.adapter.input.rest.ical;
+
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.service.RecurrenceExpander;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+/**
+ * Writes an RFC 5545 iCalendar feed straight to a stream, one component at a time.
+ * <p>
+ * A series becomes a single VEVENT carrying an RRULE (and EXDATEs), so the feed grows with the number
+ * of series, not of occurrences. Times are written as floating local times, as they are stored.
+ */
+public class ICalendarWriter {
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    // Content lines are folded at 75 octets, not counting the CRLF
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer out;
+    private final String stamp;
+
+    public ICalendarWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.stamp = LocalDateTime.now(ZoneOffset.UTC).format(UTC_DATE_TIME);
+    }
+
+    public void begin() {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//event-scheduler//Event Scheduler API//EN");
+        line("CALSCALE:GREGORIAN");
+    }
+
+    /**
+     * Writes the series as one VEVENT. DTSTART is the first date the rule generates, since RFC 5545 counts
+     * DTSTART as an instance (an excluded one still counts towards COUNT); a series generating nothing is skipped.
+     */
+    public void writeSeries(RecurrenceRule rule) {
+        LocalDate first = RecurrenceExpander.firstDate(rule);
+        if (first == null) {
+            return;
+        }
+
+        line("BEGIN:VEVENT");
+        line("UID:series-" + rule.getId() + "@event-scheduler");
+        line("DTSTAMP:" + stamp);
+        line("DTSTART:" + first.atTime(rule.getStartTime()).format(LOCAL_DATE_TIME));
+        line("DTEND:" + first.atTime(rule.getEndTime()).format(LOCAL_DATE_TIME));
+        line("SUMMARY:" + escape(rule.getTitle()));
+        line("RRULE:" + rrule(rule));
+        if (!rule.getExDates().isEmpty()) {
+            line("EXDATE:" + rule.getExDates().stream()
+                    .sorted()
+                    .map(date -> date.atTime(rule.getStartTime()).format(LOCAL_DATE_TIME))
+                    .collect(Collectors.joining(",")));
+        }
+        line("END:VEVENT");
+    }
+
+    public void writeEvent(Event event) {
+        line("BEGIN:VEVENT");
+        line("UID:event-" + event.getId() + "@event-scheduler");
+        line("DTSTAMP:" + stamp);
+        line("DTSTART:" + event.getStartDate().format(LOCAL_DATE_TIME));
+        line("DTEND:" + event.getEndDate().format(LOCAL_DATE_TIME));
+        line("SUMMARY:" + escape(event.getTitle()));
+        line("END:VEVENT");
+    }
+
+    public void end() {
+        line("END:VCALENDAR");
+        try {
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * FREQ, INTERVAL, BYDAY and COUNT map one to one; UNTIL is inclusive on both sides, and like DTSTART
+     * a floating date-time, so it is the last possible date at the series' start time.
+     */
+    static String rrule(RecurrenceRule rule) {
+        StringBuilder rrule = new StringBuilder("FREQ=").append(rule.getFrequency().name());
+        if (rule.getInterval() > 1) {
+            rrule.append(";INTERVAL=").append(rule.getInterval());
+        }
+        if (!rule.getByDay().isEmpty()) {
+            rrule.append(";BYDAY=").append(rule.getByDay().stream()
+                    .sorted()
+                    .map(ICalendarWriter::weekday)
+                    .collect(Collectors.joining(",")));
+        }
+        if (rule.getCount() != null) {
+            rrule.append(";COUNT=").append(rule.getCount());
+        } else if (rule.getRepeatUntilDate() != null) {
+            rrule.append(";UNTIL=").append(rule.getRepeatUntilDate().atTime(rule.getStartTime()).format(LOCAL_DATE_TIME));
+        }
+        return rrule.toString();
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private static String weekday(DayOfWeek day) {
+        return day.name().substring(0, 2);
+    }
+
+    /**
+     * Writes one content line, folded so no physical line exceeds 75 octets; a multi-byte character
+     * is never split across lines.
+     */
+    private void line(String content) {
+        try {
+            int octets = 0;
+            int limit = MAX_LINE_OCTETS;
+            for (int i = 0; i < content.length(); ) {
+                int codePoint = content.codePointAt(i);
+                int size = utf8Length(codePoint);
+                if (octets + size > limit) {
+                    // Continuation lines start with a space, which counts towards their 75 octets
+                    out.write("\r\n ");
+                    octets = 0;
+                    limit = MAX_LINE_OCTETS - 1;
+                }
+                out.write(Character.toChars(codePoint));
+                octets += size;
+                i += Character.charCount(codePoint);
+            }
+            out.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+}
@@ -0,0 +1,51 @@
+package com.event.eventscheduler.adapter.input.rest.json;
+
+import com.event.eventscheduler.adapter.input.rest.dto.request.SingleEventRequest;
+import com.event.eventscheduler.adapter.input.rest.mapper.EventMapper;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a bulk import body, a JSON array of single events, one item at a time straight into Commands,
+ * so the request is never held as a tree or a list of DTOs.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkEventReader {
+
+    static final int MAX_BULK_SIZE = 10000;
+
+    private final ObjectMapper objectMapper;
+    private final EventMapper eventMapper;
+
+    public List<CreateSingleEventCommand> read(InputStream body) throws IOException {
+        List<CreateSingleEventCommand> commands = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Bulk payload must be a JSON array of events.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (commands.size() == MAX_BULK_SIZE) {
+                    throw new IllegalArgumentException("A bulk import must not exceed " + MAX_BULK_SIZE + " events.");
+                }
+                commands.add(eventMapper.toSingleCommand(objectMapper.readValue(parser, SingleEventRequest.class)));
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException("Bulk payload must be a JSON array of events.");
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed bulk payload: " + ex.getOriginalMessage());
+        }
+        return commands;
+    }
+}
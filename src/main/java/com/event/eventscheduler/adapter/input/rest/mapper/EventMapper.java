@@ -4,14 +4,27 @@ package com.event.eventscheduler.adapter.input.rest.mapper;
 import com.event.eventscheduler.adapter.input.rest.dto.request.CyclicEventRequest;
 import com.event.eventscheduler.adapter.input.rest.dto.request.EventUpdateRequest;
 import com.event.eventscheduler.adapter.input.rest.dto.request.SingleEventRequest;
+import com.event.eventscheduler.adapter.input.rest.dto.response.BulkItemResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.EventPageResponse;
 import com.event.eventscheduler.adapter.input.rest.dto.response.EventResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.TimeSlotResponse;
+import com.event.eventscheduler.domain.model.BulkItemResult;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.EventPage;
+import com.event.eventscheduler.domain.model.TimeSlot;
 import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
 import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
 import com.event.eventscheduler.domain.port.input.command.UpdateEventCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class EventMapper {
@@ -85,7 +98,59 @@ public class EventMapper {
         command.setRecurrenceRule(
                 recurrenceRuleMapper.toCommand(request.getRecurrenceRule())
         );
+        command.setVirtual(request.isVirtual());
         return command;
     }
 
+    /**
+     * Converts an EventPage (Domain) -> EventPageResponse (DTO), encoding the next cursor
+     */
+    public EventPageResponse toPageResponse(EventPage page) {
+        List<EventResponse> events = page.getEvents().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        String next = page.getNext() != null ? encodeCursor(page.getNext()) : null;
+        return new EventPageResponse(events, next, page.getListedUntil());
+    }
+
+    /**
+     * Converts a BulkItemResult (Domain) -> BulkItemResponse (DTO)
+     */
+    public BulkItemResponse toBulkItemResponse(BulkItemResult result) {
+        EventResponse event = result.getEvent() != null ? toResponse(result.getEvent()) : null;
+        return new BulkItemResponse(result.getIndex(), result.getStatus(), event, result.getMessage());
+    }
+
+    /**
+     * Converts a TimeSlot (Domain) -> TimeSlotResponse (DTO)
+     */
+    public TimeSlotResponse toSlotResponse(TimeSlot slot) {
+        return new TimeSlotResponse(slot.getStart(), slot.getEnd());
+    }
+
+    /**
+     * Encodes a cursor as an opaque URL-safe token, so clients cannot depend on its layout
+     */
+    public String encodeCursor(EventCursor cursor) {
+        String raw = cursor.getStartDate() + "|" + cursor.getKey();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encodeCursor}; a null token means the first page
+     */
+    public EventCursor decodeCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid page cursor.");
+        }
+    }
+
 }
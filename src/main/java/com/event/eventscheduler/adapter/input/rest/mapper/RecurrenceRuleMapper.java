@@ -9,20 +9,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class RecurrenceRuleMapper {
 
-    public RecurrenceRule toDomain(RecurrenceRuleRequest request) {
-        RecurrenceRule rule = new RecurrenceRule();
-        rule.setDayOfWeek(request.getDateOfWeek());
-        rule.setRepeatUntilDate(request.getRepeatUntilDate());
-        rule.setStartTime(request.getStartTime());
-        rule.setEndTime(request.getEndTime());
-        return rule;
-    }
-
     public RecurrenceRuleResponse toResponse(RecurrenceRule rule) {
         RecurrenceRuleResponse response = new RecurrenceRuleResponse();
         response.setId(rule.getId());
-        response.setDateOfWeek(rule.getDayOfWeek());
+        response.setFrequency(rule.getFrequency());
+        response.setInterval(rule.getInterval());
+        response.setByDay(rule.getByDay());
+        response.setCount(rule.getCount());
         response.setRepeatUntilDate(rule.getRepeatUntilDate());
+        response.setExDates(rule.getExDates());
+        response.setStartDate(rule.getStartDate());
         response.setStartTime(rule.getStartTime());
         response.setEndTime(rule.getEndTime());
         return response;
@@ -37,8 +33,13 @@ public class RecurrenceRuleMapper {
         if (request == null) return null;
 
         RecurrenceRuleCommand command = new RecurrenceRuleCommand();
-        command.setDayOfWeek(request.getDateOfWeek());
+        command.setFrequency(request.getFrequency());
+        command.setInterval(request.getInterval());
+        command.setByDay(request.getByDay());
+        command.setCount(request.getCount());
         command.setRepeatUntilDate(request.getRepeatUntilDate());
+        command.setExDates(request.getExDates());
+        command.setStartDate(request.getStartDate());
         command.setStartTime(request.getStartTime());
         command.setEndTime(request.getEndTime());
         return command;
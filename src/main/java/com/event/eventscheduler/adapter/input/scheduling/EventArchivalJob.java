@@ -0,0 +1,50 @@
+package com.event.eventscheduler.adapter.input.scheduling;
+
+import com.event.eventscheduler.domain.port.input.ArchiveEventsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Moves events that ended more than {@code scheduler.archive.after-days} ago to the archive table, so the hot
+ * table and its indexes only hold recent and upcoming events. Each batch of {@code batch-size} events is its
+ * own transaction; an interrupted run simply continues from the oldest remaining event the next time.
+ * Instances running at the same time claim disjoint batches, since each batch stays row-locked until it commits.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchivalJob {
+
+    private final ArchiveEventsUseCase archiveEventsUseCase;
+    private final int afterDays;
+    private final int batchSize;
+
+    public EventArchivalJob(ArchiveEventsUseCase archiveEventsUseCase,
+                            @Value("${scheduler.archive.after-days:90}") int afterDays,
+                            @Value("${scheduler.archive.batch-size:1000}") int batchSize) {
+        this.archiveEventsUseCase = archiveEventsUseCase;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${scheduler.archive.cron:0 30 2 * * *}")
+    public void archivePastEvents() {
+        LocalDate cutoff = LocalDate.now().minusDays(afterDays);
+
+        int archived = 0;
+        int moved;
+        do {
+            moved = archiveEventsUseCase.archiveEndedBefore(cutoff, batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} events that ended before {}", archived, cutoff);
+        }
+    }
+}
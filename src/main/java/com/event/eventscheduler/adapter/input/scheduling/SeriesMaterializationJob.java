@@ -0,0 +1,49 @@
+package com.event.eventscheduler.adapter.input.scheduling;
+
+import com.event.eventscheduler.domain.port.input.MaterializeSeriesUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps every materialized series stored as rows {@code scheduler.materialization.horizon-weeks} ahead of today.
+ * Each batch of {@code batch-size} series is its own transaction, so a run never holds locks for long.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.materialization.enabled", havingValue = "true", matchIfMissing = true)
+public class SeriesMaterializationJob {
+
+    private final MaterializeSeriesUseCase materializeSeriesUseCase;
+    private final int horizonWeeks;
+    private final int batchSize;
+
+    public SeriesMaterializationJob(MaterializeSeriesUseCase materializeSeriesUseCase,
+                                    @Value("${scheduler.materialization.horizon-weeks:12}") int horizonWeeks,
+                                    @Value("${scheduler.materialization.batch-size:50}") int batchSize) {
+        this.materializeSeriesUseCase = materializeSeriesUseCase;
+        this.horizonWeeks = horizonWeeks;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.materialization.initial-delay:PT1M}",
+            fixedDelayString = "${scheduler.materialization.interval:PT1H}")
+    public void extendSeries() {
+        LocalDate horizon = LocalDate.now().plusWeeks(horizonWeeks);
+
+        int extended = 0;
+        int handled;
+        do {
+            handled = materializeSeriesUseCase.materializeAhead(horizon, batchSize);
+            extended += handled;
+        } while (handled == batchSize);
+
+        if (extended > 0) {
+            log.info("Materialized {} series up to {}", extended, horizon);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.event.eventscheduler.adapter.output.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Application event carrying the days touched by a committed write.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+
+    private final Set<LocalDate> days;
+
+    // Every day from this one on may have changed too; null when only {@code days} did
+    private final LocalDate changedFrom;
+
+    public ScheduleChangedEvent(Set<LocalDate> days) {
+        this(days, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.event.eventscheduler.adapter.output.notification;
+
+import com.event.eventscheduler.domain.port.output.ScheduleChangeNotifierPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Publishes schedule changes as Spring application events; listeners use
+ * {@code @TransactionalEventListener} to act only after the write commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringScheduleChangeNotifier implements ScheduleChangeNotifierPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void daysChanged(Set<LocalDate> days) {
+        if (!days.isEmpty()) {
+            applicationEventPublisher.publishEvent(new ScheduleChangedEvent(Set.copyOf(days)));
+        }
+    }
+
+    @Override
+    public void daysChangedFrom(LocalDate firstDay) {
+        applicationEventPublisher.publishEvent(new ScheduleChangedEvent(Set.of(), firstDay));
+    }
+}
@@ -1,89 +1,307 @@
 package com.event.eventscheduler.adapter.output.persistence;
 
+import com.event.eventscheduler.adapter.output.persistence.cache.RecurrenceRuleCache;
 import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
 import com.event.eventscheduler.adapter.output.persistence.mapper.EventPersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.model.TimeSlot;
 import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+import com.event.eventscheduler.adapter.output.persistence.repository.EventArchiveRepository;
 import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.service.TimeSlotSweep;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Stores events in the hot {@code event} table. Events moved to {@code event_archive} by the archival job
+ * stay visible to the date-window reads and conflict checks of windows starting before today; the
+ * whole-table reads ({@link #findAll()}, paging, streaming) cover the hot table only.
+ */
 @Repository
 public class EventPersistenceAdapter implements EventRepositoryPort {
 
+    // SQLSTATE raised by Postgres when a partition's no-overlap exclusion constraint or the cross-partition trigger fires
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final EventRepository jpaRepository;
+    private final EventArchiveRepository archiveRepository;
     private final EventPersistenceMapper mapper;
+    private final RecurrenceRuleCache ruleCache;
+    private final LongestEventBound longestEvent;
+    private final boolean databaseEnforcedNoOverlap;
 
     @Autowired
-
-    public EventPersistenceAdapter(EventRepository jpaRepository, EventPersistenceMapper mapper) {
+    public EventPersistenceAdapter(EventRepository jpaRepository, EventArchiveRepository archiveRepository,
+                                   EventPersistenceMapper mapper, RecurrenceRuleCache ruleCache, LongestEventBound longestEvent,
+                                   @Value("${scheduler.conflict-check.database-enforced:false}") boolean databaseEnforcedNoOverlap) {
         this.jpaRepository = jpaRepository;
+        this.archiveRepository = archiveRepository;
         this.mapper = mapper;
+        this.ruleCache = ruleCache;
+        this.longestEvent = longestEvent;
+        this.databaseEnforcedNoOverlap = databaseEnforcedNoOverlap;
     }
 
     @Override
     public Event save(Event event) {
+        rejectArchivedOverlaps(List.of(event));
+        longestEvent.cover(List.of(event));
         EventEntity eventEntity = mapper.toEntity(event);
-        EventEntity savedEntity = jpaRepository.save(eventEntity);
 
-        return mapper.toDomain(savedEntity);
+        // Flush here so a constraint violation surfaces inside the adapter, where it can be translated
+        EventEntity savedEntity = translateOverlap(() -> jpaRepository.saveAndFlush(eventEntity));
+
+        return toDomain(savedEntity);
     }
 
     @Override
     public Optional<Event> findById(Long id) {
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
     public List<Event> saveAll(List<Event> events) {
+        rejectArchivedOverlaps(events);
+        longestEvent.cover(events);
+
         // Convert List<Domain> to List<Entity>
         List<EventEntity> entitiesToSave = events.stream()
                 .map(mapper::toEntity)
                 .collect(Collectors.toList());
 
-        List<EventEntity> savedEntities = jpaRepository.saveAll(entitiesToSave);
+        List<EventEntity> savedEntities = translateOverlap(() -> {
+            List<EventEntity> saved = jpaRepository.saveAll(entitiesToSave);
+            jpaRepository.flush();
+            return saved;
+        });
 
-        return savedEntities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(savedEntities);
     }
 
     @Override
     public List<Event> findByStartDateBetween(LocalDateTime startBoundary, LocalDateTime endBoundary) {
-        List<EventEntity> entities = jpaRepository.findByStartDateBetween(startBoundary, endBoundary);
-
-        return entities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        List<EventRow> rows = jpaRepository.findByStartDateBetween(startBoundary, endBoundary);
+        if (reachesArchive(startBoundary)) {
+            rows = concat(rows, archiveRepository.findByStartDateBetween(startBoundary, endBoundary));
+        }
+        return rowsToDomain(rows);
     }
 
     @Override
     public List<Event> findConflictingEvents(LocalDateTime newStart, LocalDateTime newEnd) {
-        List<EventEntity> entities = jpaRepository.findConflictingEvents(newStart, newEnd);
-        return entities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        List<Event> conflicts = toDomain(jpaRepository.findConflictingEvents(newStart, newEnd, longestEvent.get()));
+        if (reachesArchive(newStart)) {
+            conflicts.addAll(rowsToDomain(archiveRepository.findOverlapping(newStart, newEnd)));
+        }
+        return conflicts;
     }
 
     @Override
     public List<Event> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude) {
-        List<EventEntity> entities = jpaRepository.findConflictingEventsExcludingId(newStart, newEnd, eventIdToExclude);
-        return entities.stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        List<Event> conflicts = toDomain(jpaRepository.findConflictingEventsExcludingId(newStart, newEnd, eventIdToExclude, longestEvent.get()));
+        if (reachesArchive(newStart)) {
+            // The event being updated lives in the hot table, so nothing archived has to be excluded
+            conflicts.addAll(rowsToDomain(archiveRepository.findOverlapping(newStart, newEnd)));
+        }
+        return conflicts;
+    }
+
+    @Override
+    public List<Event> findConflictingSingleEvents(List<TimeSlot> candidateSlots) {
+        List<Event> conflicts = toDomain(jpaRepository.findConflictingSingleEvents(candidateSlots));
+        conflicts.addAll(rowsToDomain(findArchivedOverlaps(candidateSlots, true)));
+        return conflicts;
     }
 
     @Override
     public List<Event> findAll() {
-        List<EventEntity> entities = jpaRepository.findAll();
+        return rowsToDomain(jpaRepository.findAllRows());
+    }
+
+    @Override
+    public List<Event> findOverlapping(LocalDateTime from, LocalDateTime toExclusive) {
+        List<EventRow> rows = jpaRepository.findOverlapping(from, toExclusive, longestEvent.get());
+        if (reachesArchive(from)) {
+            rows = concat(rows, archiveRepository.findOverlapping(from, toExclusive));
+            rows.sort(Comparator.comparing(EventRow::startDate).thenComparing(EventRow::id));
+        }
+        return rowsToDomain(rows);
+    }
+
+    @Override
+    public List<Event> findPageAfter(EventCursor after, int limit) {
+        List<EventRow> rows = (after == null)
+                ? jpaRepository.findFirstPage(Limit.of(limit))
+                : jpaRepository.findPageAfter(after.getStartDate(), after.getKey(), Limit.of(limit));
+
+        return rowsToDomain(rows);
+    }
+
+    @Override
+    public void streamAll(Consumer<Event> consumer) {
+        // Resolved once per series for the whole stream, not once per row
+        Map<Long, RecurrenceRule> rules = new HashMap<>();
+        jpaRepository.forEachRow(row -> {
+            RecurrenceRule rule = row.ruleId() != null
+                    ? rules.computeIfAbsent(row.ruleId(), id -> ruleCache.getAll(Set.of(id)).get(id))
+                    : null;
+            consumer.accept(mapper.toDomain(row, rule));
+        });
+    }
+
+    @Override
+    public void streamSingleEvents(Consumer<Event> consumer) {
+        jpaRepository.forEachSingleEventRow(row -> consumer.accept(mapper.toDomain(row, null)));
+    }
+
+    @Override
+    public int archiveEndedBefore(LocalDateTime cutoff, int limit) {
+        return jpaRepository.archiveEndedBefore(cutoff, limit);
+    }
+
+    @Override
+    public boolean rejectsOverlappingWrites() {
+        return databaseEnforcedNoOverlap;
+    }
+
+    /**
+     * Maps entities to domain events, taking their rules from the rule cache: the lazy rule proxy
+     * is only asked for its id, so a read costs its own statement plus at most one for uncached rules.
+     */
+    private List<Event> toDomain(List<EventEntity> entities) {
+        Set<Long> ruleIds = entities.stream()
+                .map(EventPersistenceAdapter::ruleId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, RecurrenceRule> rules = ruleCache.getAll(ruleIds);
+
         return entities.stream()
-                .map(mapper::toDomain)
+                .map(entity -> mapper.toDomain(entity, rules.get(ruleId(entity))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Same as {@link #toDomain(List)} for the read-side projections.
+     */
+    private List<Event> rowsToDomain(List<EventRow> rows) {
+        Set<Long> ruleIds = rows.stream()
+                .map(EventRow::ruleId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, RecurrenceRule> rules = ruleCache.getAll(ruleIds);
+
+        return rows.stream()
+                .map(row -> mapper.toDomain(row, row.ruleId() != null ? rules.get(row.ruleId()) : null))
+                .collect(Collectors.toList());
+    }
+
+    private Event toDomain(EventEntity entity) {
+        Long ruleId = ruleId(entity);
+        RecurrenceRule rule = ruleId != null ? ruleCache.getAll(Set.of(ruleId)).get(ruleId) : null;
+        return mapper.toDomain(entity, rule);
+    }
+
+    /**
+     * Only events that ended before the archival cutoff are archived, and the cutoff is never later than
+     * today, so a window starting today or later can be answered by the hot table alone.
+     */
+    private static boolean reachesArchive(LocalDateTime from) {
+        return from.isBefore(LocalDate.now().atStartOfDay());
+    }
+
+    private static List<EventRow> concat(List<EventRow> hot, List<EventRow> archived) {
+        List<EventRow> rows = new ArrayList<>(hot.size() + archived.size());
+        rows.addAll(hot);
+        rows.addAll(archived);
+        return rows;
+    }
+
+    /**
+     * Archived events overlapping any of the slots that start before today: one range read over their
+     * span, then a sweep against the slots themselves.
+     */
+    private List<EventRow> findArchivedOverlaps(List<TimeSlot> slots, boolean singleEventsOnly) {
+        List<TimeSlot> pastSlots = slots.stream()
+                .filter(slot -> reachesArchive(slot.getStart()))
                 .collect(Collectors.toList());
+        if (pastSlots.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime from = pastSlots.stream().map(TimeSlot::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = pastSlots.stream().map(TimeSlot::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+        List<EventRow> archived = singleEventsOnly
+                ? archiveRepository.findOverlappingSingleEvents(from, to)
+                : archiveRepository.findOverlapping(from, to);
+
+        List<TimeSlot> archivedSlots = archived.stream()
+                .map(row -> new TimeSlot(row.startDate(), row.endDate()))
+                .collect(Collectors.toList());
+        boolean[] overlapping = TimeSlotSweep.overlapsAny(archivedSlots, pastSlots);
+
+        List<EventRow> overlaps = new ArrayList<>();
+        for (int i = 0; i < archived.size(); i++) {
+            if (overlapping[i]) overlaps.add(archived.get(i));
+        }
+        return overlaps;
+    }
+
+    /**
+     * The Postgres no-overlap constraints only see the hot table, so when the pre-check query is skipped,
+     * past-dated writes are checked against the archive here.
+     */
+    private void rejectArchivedOverlaps(List<Event> events) {
+        if (!databaseEnforcedNoOverlap) {
+            return;
+        }
+        List<TimeSlot> slots = events.stream()
+                .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                .collect(Collectors.toList());
+        if (!findArchivedOverlaps(slots, false).isEmpty()) {
+            throw new ScheduleConflictException("Schedule conflict detected.");
+        }
+    }
+
+    private static Long ruleId(EventEntity entity) {
+        return entity.getRecurrenceRuleEntity() != null ? entity.getRecurrenceRuleEntity().getId() : null;
+    }
+
+    /**
+     * Turns a violation of the Postgres no-overlap exclusion constraint into the domain's conflict exception.
+     */
+    private <T> T translateOverlap(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                    throw new ScheduleConflictException("Schedule conflict detected.");
+                }
+            }
+            throw ex;
+        }
     }
 }
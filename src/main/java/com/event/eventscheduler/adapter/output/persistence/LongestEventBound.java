@@ -0,0 +1,73 @@
+package com.event.eventscheduler.adapter.output.persistence;
+
+import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
+import com.event.eventscheduler.domain.model.Event;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * An upper bound on the duration of the longest stored event, which the overlap reads take as a bind parameter
+ * instead of computing the maximum in every statement.
+ * <p>
+ * Only kept with {@code scheduler.overlap-bound.cached} (single-instance deployments only): another instance
+ * storing a longer event would go unseen, and its overlaps missed, until the bound is read again. Otherwise
+ * {@link #get()} returns null and every statement computes the maximum itself.
+ * <p>
+ * When kept, it is read from the table on first use, raised before this instance stores a longer event, and read
+ * again every {@code scheduler.overlap-bound.refresh}. It is never lowered: a bound that is too large only makes
+ * the reads scan a little further back.
+ */
+@Component
+public class LongestEventBound {
+
+    private final EventRepository jpaRepository;
+    private final boolean cached;
+    private final long refreshNanos;
+
+    private Duration bound;
+    private long loadedAt;
+
+    public LongestEventBound(EventRepository jpaRepository,
+                             @Value("${scheduler.overlap-bound.cached:false}") boolean cached,
+                             @Value("${scheduler.overlap-bound.refresh:PT1M}") Duration refresh) {
+        this.jpaRepository = jpaRepository;
+        this.cached = cached;
+        this.refreshNanos = refresh.toNanos();
+    }
+
+    /**
+     * The bound to pass to the overlap reads, or null to have them compute it.
+     */
+    public synchronized Duration get() {
+        if (!cached) {
+            return null;
+        }
+        if (bound == null || System.nanoTime() - loadedAt > refreshNanos) {
+            Duration stored = jpaRepository.findLongestDuration();
+            bound = bound == null || stored.compareTo(bound) > 0 ? stored : bound;
+            loadedAt = System.nanoTime();
+        }
+        return bound;
+    }
+
+    /**
+     * Raises the bound to cover the events about to be stored; called before the write, so no read after its
+     * commit can use a smaller one.
+     */
+    public synchronized void cover(List<Event> events) {
+        if (!cached) {
+            return;
+        }
+        Duration longest = get();
+        for (Event event : events) {
+            Duration duration = Duration.between(event.getStartDate(), event.getEndDate());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+        bound = longest;
+    }
+}
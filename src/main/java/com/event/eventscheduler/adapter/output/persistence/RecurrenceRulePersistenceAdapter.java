@@ -1,14 +1,25 @@
 package com.event.eventscheduler.adapter.output.persistence;
 
+import com.event.eventscheduler.adapter.output.persistence.cache.RecurrenceRuleCache;
 import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
 import com.event.eventscheduler.adapter.output.persistence.mapper.RecurrenceRulePersistenceMapper;
 import com.event.eventscheduler.adapter.output.persistence.repository.RecurrenceRuleRepository;
 import com.event.eventscheduler.domain.model.RecurrenceRule;
 import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -16,6 +27,7 @@ public class RecurrenceRulePersistenceAdapter implements RecurrenceRuleRepositor
 
     private final RecurrenceRuleRepository jpaRepository;
     private final RecurrenceRulePersistenceMapper mapper;
+    private final RecurrenceRuleCache ruleCache;
 
     @Override
     public RecurrenceRule save(RecurrenceRule recurrenceRule) {
@@ -23,12 +35,82 @@ public class RecurrenceRulePersistenceAdapter implements RecurrenceRuleRepositor
 
         RecurrenceRuleEntity savedEntity = jpaRepository.save(entity);
 
-        return mapper.toDomain(savedEntity);
+        // Events of this series will be read back with the rule taken from the cache once the save commits
+        RecurrenceRule saved = mapper.toDomain(savedEntity);
+        ruleCache.put(saved);
+        return saved;
     }
 
     @Override
     public Optional<RecurrenceRule> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return Optional.ofNullable(ruleCache.getAll(List.of(id)).get(id));
+    }
+
+    @Override
+    public List<RecurrenceRule> findVirtualRulesActiveBetween(LocalDate from, LocalDate to) {
+        return jpaRepository.findVirtualRulesActiveBetween(from, to).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurrenceRule> findCandidateRules(Set<DayOfWeek> days, LocalTime startTime, LocalTime endTime,
+                                                   LocalDate from, LocalDate toExclusive) {
+        return jpaRepository.findCandidateRules(days, startTime, endTime, from, toExclusive).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurrenceRule> findRulesToMaterialize(LocalDate horizon, int limit) {
+        return jpaRepository.findRulesToMaterialize(horizon, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurrenceRule> findUnmaterializedRulesBetween(LocalDate from, LocalDate to) {
+        return jpaRepository.findUnmaterializedRulesBetween(from, to).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RecurrenceRule> findAllUnmaterializedRules() {
+        return jpaRepository.findAllUnmaterializedRules().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean advanceMaterializedUntil(Long ruleId, LocalDate expected, LocalDate until) {
+        // Events resolve their rule from the cache, so a copy holding the old watermark must not outlive the move
+        ruleCache.evict(ruleId);
+        return jpaRepository.advanceMaterializedUntil(ruleId, expected, until) == 1;
+    }
+
+    @Override
+    public void addExDates(Long ruleId, Set<LocalDate> dates) {
+        ruleCache.evict(ruleId);
+        RecurrenceRuleEntity entity = jpaRepository.findById(ruleId)
+                .orElseThrow(() -> new IllegalStateException("Recurrence rule " + ruleId + " no longer exists."));
+        Set<LocalDate> exDates = entity.getExDates() != null ? new HashSet<>(entity.getExDates()) : new HashSet<>();
+        exDates.addAll(dates);
+        entity.setExDates(exDates);
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    public List<RecurrenceRule> findAllVirtualRules() {
+        return jpaRepository.findByVirtualTrue().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void streamAll(Consumer<RecurrenceRule> consumer) {
+        try (Stream<RecurrenceRuleEntity> entities = jpaRepository.streamAllRules()) {
+            entities.map(mapper::toDomain).forEach(consumer);
+        }
     }
 }
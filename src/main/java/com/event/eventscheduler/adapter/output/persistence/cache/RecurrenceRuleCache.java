@@ -0,0 +1,169 @@
+package com.event.eventscheduler.adapter.output.persistence.cache;
+
+import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
+import com.event.eventscheduler.adapter.output.persistence.mapper.RecurrenceRulePersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.repository.RecurrenceRuleRepository;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-level LRU of domain recurrence rules by id.
+ * A rule's definition never changes once saved; only its materialization watermark moves, and the
+ * rule is evicted whenever it does, so a cached copy never carries an outdated watermark.
+ * Event reads resolve their rules here instead of loading the association row by row.
+ * Entries are copies, and every read hands out a fresh copy, so callers cannot change what others see.
+ */
+@Component
+public class RecurrenceRuleCache {
+
+    private final RecurrenceRuleRepository ruleRepository;
+    private final RecurrenceRulePersistenceMapper ruleMapper;
+    private final Map<Long, RecurrenceRule> rules;
+    private final Set<Long> uncommitted = ConcurrentHashMap.newKeySet();
+
+    // Bumped on every eviction; rules loaded while one happened are handed out but not stored
+    private long generation;
+
+    public RecurrenceRuleCache(RecurrenceRuleRepository ruleRepository, RecurrenceRulePersistenceMapper ruleMapper,
+                               @Value("${scheduler.rule-cache.max-entries:10000}") int maxEntries) {
+        this.ruleRepository = ruleRepository;
+        this.ruleMapper = ruleMapper;
+        this.rules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RecurrenceRule> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Caches a copy of a just-saved rule once the surrounding transaction commits; a rolled-back save is
+     * never cached. Until then, reads of the rule in the same transaction are not cached either.
+     */
+    public void put(RecurrenceRule rule) {
+        RecurrenceRule copy = copyOf(rule);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            uncommitted.add(copy.getId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(copy);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    uncommitted.remove(copy.getId());
+                }
+            });
+        } else {
+            store(copy);
+        }
+    }
+
+    /**
+     * Drops a rule whose watermark the current transaction moves, and drops it again once the transaction
+     * ends: until then, other transactions still read the old watermark and may have cached it, and reads
+     * in this one see a watermark that may yet be rolled back, so they are not cached either.
+     */
+    public void evict(Long id) {
+        remove(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            uncommitted.add(id);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                    uncommitted.remove(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the rules for the given ids, loading every uncached one in a single query.
+     */
+    public Map<Long, RecurrenceRule> getAll(Collection<Long> ids) {
+        Map<Long, RecurrenceRule> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long seenGeneration;
+
+        synchronized (this) {
+            seenGeneration = generation;
+            for (Long id : ids) {
+                RecurrenceRule cached = rules.get(id);
+                if (cached != null) {
+                    found.put(id, copyOf(cached));
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (RecurrenceRuleEntity entity : ruleRepository.findAllById(missing)) {
+                RecurrenceRule rule = ruleMapper.toDomain(entity);
+                found.put(rule.getId(), rule);
+                // Rules read from the database are committed, unless this transaction saved them itself
+                if (!uncommitted.contains(rule.getId())) {
+                    storeUnlessEvictedSince(copyOf(rule), seenGeneration);
+                }
+            }
+        }
+        return found;
+    }
+
+    private synchronized void store(RecurrenceRule rule) {
+        rules.put(rule.getId(), rule);
+    }
+
+    private synchronized void storeUnlessEvictedSince(RecurrenceRule rule, long seenGeneration) {
+        if (generation == seenGeneration) {
+            rules.put(rule.getId(), rule);
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        generation++;
+        rules.remove(id);
+    }
+
+    private static RecurrenceRule copyOf(RecurrenceRule rule) {
+        RecurrenceRule copy = new RecurrenceRule();
+        copy.setId(rule.getId());
+        copy.setFrequency(rule.getFrequency());
+        copy.setInterval(rule.getInterval());
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        if (rule.getByDay() != null) {
+            byDay.addAll(rule.getByDay());
+        }
+        copy.setByDay(byDay);
+        copy.setCount(rule.getCount());
+        copy.setRepeatUntilDate(rule.getRepeatUntilDate());
+        copy.setExDates(rule.getExDates() != null ? new HashSet<>(rule.getExDates()) : new HashSet<>());
+        copy.setStartTime(rule.getStartTime());
+        copy.setEndTime(rule.getEndTime());
+        copy.setTitle(rule.getTitle());
+        copy.setStartDate(rule.getStartDate());
+        copy.setVirtual(rule.isVirtual());
+        copy.setSeriesEndDate(rule.getSeriesEndDate());
+        copy.setMaterializedUntil(rule.getMaterializedUntil());
+        return copy;
+    }
+}
@@ -0,0 +1,39 @@
+package com.event.eventscheduler.adapter.output.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Stores BYDAY as a comma separated list (e.g. "MONDAY,WEDNESDAY") in a single column,
+ * so loading a rule never needs a join.
+ */
+@Converter
+public class DayOfWeekSetConverter implements AttributeConverter<Set<DayOfWeek>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<DayOfWeek> days) {
+        if (days == null || days.isEmpty()) return null;
+        return days.stream()
+                .sorted()
+                .map(DayOfWeek::name)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<DayOfWeek> convertToEntityAttribute(String column) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (column == null || column.isBlank()) return days;
+
+        Arrays.stream(column.split(","))
+                .map(String::trim)
+                .map(DayOfWeek::valueOf)
+                .forEach(days::add);
+        return days;
+    }
+}
@@ -0,0 +1,38 @@
+package com.event.eventscheduler.adapter.output.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Stores EXDATEs as a comma separated list of ISO dates in a single column.
+ */
+@Converter
+public class LocalDateSetConverter implements AttributeConverter<Set<LocalDate>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) return null;
+        return dates.stream()
+                .sorted()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<LocalDate> convertToEntityAttribute(String column) {
+        Set<LocalDate> dates = new HashSet<>();
+        if (column == null || column.isBlank()) return dates;
+
+        Arrays.stream(column.split(","))
+                .map(String::trim)
+                .map(LocalDate::parse)
+                .forEach(dates::add);
+        return dates;
+    }
+}
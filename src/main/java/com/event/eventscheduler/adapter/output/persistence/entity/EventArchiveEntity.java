@@ -0,0 +1,37 @@
+package com.event.eventscheduler.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event moved out of the hot {@code event} table by the archival job. It keeps the id it had
+ * there, and only the rule id: archived rows are read, never written through JPA.
+ */
+@Entity
+@Table(name = "event_archive")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(name = "rule_id")
+    private Long ruleId;
+}
@@ -1,14 +1,19 @@
 package com.event.eventscheduler.adapter.output.persistence.entity;
 
+import com.event.eventscheduler.adapter.output.persistence.converter.DayOfWeekSetConverter;
+import com.event.eventscheduler.adapter.output.persistence.converter.LocalDateSetConverter;
+import com.event.eventscheduler.domain.model.Frequency;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.Length;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 @Entity
 @Table(name = "recurrence_rule")
@@ -19,17 +24,52 @@ import java.time.LocalTime;
 public class RecurrenceRuleEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurrence_rule_seq")
+    @SequenceGenerator(name = "recurrence_rule_seq", sequenceName = "recurrence_rule_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
-    private DayOfWeek dateOfWeek;
+    @Column(nullable = false)
+    private Frequency frequency;
+
+    @Column(name = "interval_length", nullable = false)
+    private int interval;
+
+    @Convert(converter = DayOfWeekSetConverter.class)
+    @Column(name = "by_day", length = 64)
+    private Set<DayOfWeek> byDay;
+
+    @Column(name = "occurrence_count")
+    private Integer count;
 
     private LocalDate repeatUntilDate;
 
+    // Unbounded: a long-running series imported with, or accumulating, hundreds of EXDATEs must still fit (V10)
+    @Convert(converter = LocalDateSetConverter.class)
+    @Column(name = "ex_dates", length = Length.LONG32)
+    private Set<LocalDate> exDates;
+
     private LocalTime startTime;
 
     private LocalTime endTime;
 
+    private String title;
+
+    private LocalDate startDate;
+
+    @Column(name = "is_virtual", nullable = false)
+    private boolean virtual;
+
+    private LocalDate seriesEndDate;
+
+    private LocalDate materializedUntil;
+
+    // Every weekday the series can fall on, one row per day, so candidate rules are found by an indexed join
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "recurrence_rule_day", joinColumns = @JoinColumn(name = "rule_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 9, nullable = false)
+    private Set<DayOfWeek> occurrenceDays;
+
 
 }
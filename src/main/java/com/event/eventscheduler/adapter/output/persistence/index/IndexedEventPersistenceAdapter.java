@@ -0,0 +1,202 @@
+package com.event.eventscheduler.adapter.output.persistence.index;
+
+import com.event.eventscheduler.adapter.output.persistence.EventPersistenceAdapter;
+import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Optional decorator that answers conflict checks from an in-memory {@link IntervalIndex}.
+ * <p>
+ * A miss in the index returns "no conflict" without touching the database. A hit is always
+ * confirmed by the regular JPA query, so a stale entry can only cost a round trip, never a
+ * false conflict. The index is only aware of writes made by this instance, so enable it for
+ * single-instance deployments only.
+ * <p>
+ * The index only holds the hot table, so conflict checks for windows starting before today, which
+ * may meet archived events, always go to the database.
+ */
+@Slf4j
+@Primary
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.conflict-index.enabled", havingValue = "true")
+public class IndexedEventPersistenceAdapter implements EventRepositoryPort {
+
+    private final EventPersistenceAdapter delegate;
+    private final EventRepository jpaRepository;
+
+    private final IntervalIndex index = new IntervalIndex();
+
+    // Writes committed while the index is being rebuilt, replayed on top of the loaded snapshot
+    private final List<IndexedInterval> committedDuringRebuild = new ArrayList<>();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    /**
+     * Builds the index once the application (and any data initializer) has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (committedDuringRebuild) {
+            rebuilding = true;
+            committedDuringRebuild.clear();
+        }
+
+        List<IndexedInterval> snapshot = jpaRepository.findAllIntervals();
+
+        synchronized (committedDuringRebuild) {
+            index.replaceAll(snapshot);
+            index.putAll(committedDuringRebuild);
+            committedDuringRebuild.clear();
+            rebuilding = false;
+            ready = true;
+        }
+        log.info("Conflict index built with {} events", index.size());
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event savedEvent = delegate.save(event);
+        indexAfterCommit(List.of(savedEvent));
+        return savedEvent;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> savedEvents = delegate.saveAll(events);
+        indexAfterCommit(savedEvents);
+        return savedEvents;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Event> findByStartDateBetween(LocalDateTime startBoundary, LocalDateTime endBoundary) {
+        return delegate.findByStartDateBetween(startBoundary, endBoundary);
+    }
+
+    @Override
+    public List<Event> findConflictingEvents(LocalDateTime newStart, LocalDateTime newEnd) {
+        if (ready && !reachesArchive(newStart) && index.findOverlapping(newStart, newEnd, null).isEmpty()) {
+            return List.of();
+        }
+        return delegate.findConflictingEvents(newStart, newEnd);
+    }
+
+    @Override
+    public List<Event> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude) {
+        if (ready && !reachesArchive(newStart) && index.findOverlapping(newStart, newEnd, eventIdToExclude).isEmpty()) {
+            return List.of();
+        }
+        return delegate.findConflictingEventsExcludingId(newStart, newEnd, eventIdToExclude);
+    }
+
+    @Override
+    public List<Event> findConflictingSingleEvents(List<TimeSlot> candidateSlots) {
+        if (!ready) {
+            return delegate.findConflictingSingleEvents(candidateSlots);
+        }
+
+        // Only the slots the index flags need to be confirmed by the database, which also drops series rows
+        List<TimeSlot> suspectSlots = candidateSlots.stream()
+                .filter(slot -> reachesArchive(slot.getStart()) || !index.findOverlapping(slot.getStart(), slot.getEnd(), null).isEmpty())
+                .collect(Collectors.toList());
+
+        if (suspectSlots.isEmpty()) {
+            return List.of();
+        }
+        return delegate.findConflictingSingleEvents(suspectSlots);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findOverlapping(LocalDateTime from, LocalDateTime toExclusive) {
+        return delegate.findOverlapping(from, toExclusive);
+    }
+
+    @Override
+    public List<Event> findPageAfter(EventCursor after, int limit) {
+        return delegate.findPageAfter(after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Event> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public void streamSingleEvents(Consumer<Event> consumer) {
+        delegate.streamSingleEvents(consumer);
+    }
+
+    @Override
+    public int archiveEndedBefore(LocalDateTime cutoff, int limit) {
+        // Archived intervals stay in the index until the next rebuild; a stale hit only costs a confirming query
+        return delegate.archiveEndedBefore(cutoff, limit);
+    }
+
+    @Override
+    public boolean rejectsOverlappingWrites() {
+        return delegate.rejectsOverlappingWrites();
+    }
+
+    private static boolean reachesArchive(LocalDateTime from) {
+        return from.isBefore(LocalDate.now().atStartOfDay());
+    }
+
+    /**
+     * Rolled-back writes must never reach the index, so apply them only once the transaction commits.
+     */
+    private void indexAfterCommit(List<Event> savedEvents) {
+        List<IndexedInterval> intervals = savedEvents.stream()
+                .map(event -> new IndexedInterval(event.getId(), event.getStartDate(), event.getEndDate()))
+                .collect(Collectors.toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyCommitted(intervals);
+                }
+            });
+        } else {
+            applyCommitted(intervals);
+        }
+    }
+
+    private void applyCommitted(List<IndexedInterval> intervals) {
+        synchronized (committedDuringRebuild) {
+            index.putAll(intervals);
+            if (rebuilding) {
+                committedDuringRebuild.addAll(intervals);
+            }
+        }
+    }
+}
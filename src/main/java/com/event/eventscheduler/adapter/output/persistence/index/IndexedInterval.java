@@ -0,0 +1,18 @@
+package com.event.eventscheduler.adapter.output.persistence.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * The slice of an event the conflict index needs: its id and [start, end).
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedInterval {
+
+    private Long id;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
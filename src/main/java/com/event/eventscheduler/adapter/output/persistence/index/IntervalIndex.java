@@ -0,0 +1,107 @@
+package com.event.eventscheduler.adapter.output.persistence.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sorted set of event intervals keyed by (start, id).
+ * <p>
+ * An overlap lookup for [start, end) only has to visit intervals whose start lies in
+ * (start - longestDuration, end), so it costs O(log n + k) where k is that window.
+ */
+public class IntervalIndex {
+
+    private static final Comparator<IndexedInterval> BY_START_THEN_ID =
+            Comparator.comparing(IndexedInterval::getStartDate)
+                    .thenComparing(IndexedInterval::getId);
+
+    private final TreeSet<IndexedInterval> byStart = new TreeSet<>(BY_START_THEN_ID);
+    private final Map<Long, IndexedInterval> byId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Only ever grows until the next rebuild, which keeps lookups correct
+    private Duration longestDuration = Duration.ZERO;
+
+    /**
+     * Replaces the whole content of the index, e.g. when it is (re)built from the table.
+     */
+    public void replaceAll(Collection<IndexedInterval> intervals) {
+        lock.writeLock().lock();
+        try {
+            byStart.clear();
+            byId.clear();
+            longestDuration = Duration.ZERO;
+            intervals.forEach(this::putUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts the intervals, replacing the previous position of any id that is already indexed.
+     */
+    public void putAll(Collection<IndexedInterval> intervals) {
+        lock.writeLock().lock();
+        try {
+            intervals.forEach(this::putUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of every indexed interval overlapping [start, end), skipping excludedId.
+     */
+    public List<Long> findOverlapping(LocalDateTime start, LocalDateTime end, Long excludedId) {
+        lock.readLock().lock();
+        try {
+            List<Long> overlapping = new ArrayList<>();
+
+            IndexedInterval from = new IndexedInterval(Long.MAX_VALUE, start.minus(longestDuration), null);
+            IndexedInterval to = new IndexedInterval(Long.MIN_VALUE, end, null);
+            if (BY_START_THEN_ID.compare(from, to) >= 0) {
+                return overlapping;
+            }
+
+            for (IndexedInterval candidate : byStart.subSet(from, false, to, false)) {
+                if (candidate.getEndDate().isAfter(start) && !candidate.getId().equals(excludedId)) {
+                    overlapping.add(candidate.getId());
+                }
+            }
+            return overlapping;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putUnlocked(IndexedInterval interval) {
+        IndexedInterval previous = byId.put(interval.getId(), interval);
+        if (previous != null) {
+            byStart.remove(previous);
+        }
+        byStart.add(interval);
+
+        Duration duration = Duration.between(interval.getStartDate(), interval.getEndDate());
+        if (duration.compareTo(longestDuration) > 0) {
+            longestDuration = duration;
+        }
+    }
+}
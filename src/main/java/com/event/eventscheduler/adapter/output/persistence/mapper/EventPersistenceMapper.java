@@ -1,7 +1,9 @@
 package com.event.eventscheduler.adapter.output.persistence.mapper;
 
 import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -35,11 +37,13 @@ public class EventPersistenceMapper {
 
 
     /**
-     * Converts a Persistance Entity object -> a Domain object
+     * Converts a Persistance Entity object -> a Domain object.
+     * The rule is passed in rather than read from the lazy association, so mapping never loads it.
      * @param entity
+     * @param recurrenceRule the already-resolved rule, or null for a single event
      * @return
      */
-    public Event toDomain(EventEntity entity) {
+    public Event toDomain(EventEntity entity, RecurrenceRule recurrenceRule) {
         if (entity == null) return null;
 
         Event domain = new Event();
@@ -48,12 +52,16 @@ public class EventPersistenceMapper {
         domain.setStartDate(entity.getStartDate());
         domain.setEndDate(entity.getEndDate());
 
-        domain.setRecurrenceRule(
-                recurrenceRuleMapper.toDomain(entity.getRecurrenceRuleEntity())
-        );
+        domain.setRecurrenceRule(recurrenceRule);
 
         return domain;
     }
 
+    /**
+     * Converts a read-side EventRow projection -> a Domain object
+     */
+    public Event toDomain(EventRow row, RecurrenceRule recurrenceRule) {
+        return new Event(row.id(), row.title(), row.startDate(), row.endDate(), recurrenceRule);
+    }
 
 }
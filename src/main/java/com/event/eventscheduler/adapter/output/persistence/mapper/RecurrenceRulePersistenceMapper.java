@@ -3,6 +3,7 @@ package com.event.eventscheduler.adapter.output.persistence.mapper;
 
 import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
 import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.service.RecurrenceExpander;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,10 +17,20 @@ public class RecurrenceRulePersistenceMapper {
 
         RecurrenceRuleEntity entity = new RecurrenceRuleEntity();
         entity.setId(domain.getId());
-        entity.setDateOfWeek(domain.getDayOfWeek());
+        entity.setFrequency(domain.getFrequency());
+        entity.setInterval(domain.getInterval());
+        entity.setByDay(domain.getByDay());
+        entity.setCount(domain.getCount());
         entity.setRepeatUntilDate(domain.getRepeatUntilDate());
+        entity.setExDates(domain.getExDates());
         entity.setStartTime(domain.getStartTime());
         entity.setEndTime(domain.getEndTime());
+        entity.setTitle(domain.getTitle());
+        entity.setStartDate(domain.getStartDate());
+        entity.setVirtual(domain.isVirtual());
+        entity.setSeriesEndDate(domain.getSeriesEndDate());
+        entity.setMaterializedUntil(domain.getMaterializedUntil());
+        entity.setOccurrenceDays(RecurrenceExpander.possibleDays(domain));
         return entity;
     }
 
@@ -31,10 +42,19 @@ public class RecurrenceRulePersistenceMapper {
 
         RecurrenceRule domain = new RecurrenceRule();
         domain.setId(entity.getId());
-        domain.setDayOfWeek(entity.getDateOfWeek());
+        domain.setFrequency(entity.getFrequency());
+        domain.setInterval(entity.getInterval());
+        if (entity.getByDay() != null) domain.setByDay(entity.getByDay());
+        domain.setCount(entity.getCount());
         domain.setRepeatUntilDate(entity.getRepeatUntilDate());
+        if (entity.getExDates() != null) domain.setExDates(entity.getExDates());
         domain.setStartTime(entity.getStartTime());
         domain.setEndTime(entity.getEndTime());
+        domain.setTitle(entity.getTitle());
+        domain.setStartDate(entity.getStartDate());
+        domain.setVirtual(entity.isVirtual());
+        domain.setSeriesEndDate(entity.getSeriesEndDate());
+        domain.setMaterializedUntil(entity.getMaterializedUntil());
         return domain;
     }
 
@@ -0,0 +1,44 @@
+package com.event.eventscheduler.adapter.output.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps the monthly partitions of the Postgres {@code event} table (V7 migration) created
+ * {@code scheduler.partitioning.months-ahead} months in advance, so new events never pile up
+ * in the default partition. Runs at startup and then daily.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.partitioning.enabled", havingValue = "true")
+public class EventPartitionMaintainer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public EventPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                    @Value("${scheduler.partitioning.months-ahead:12}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${scheduler.partitioning.cron:0 0 3 * * *}")
+    public void createFuturePartitions() {
+        // The current month plus the months ahead
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_event_partitions(?, ?)", Integer.class,
+                LocalDate.now().withDayOfMonth(1), monthsAhead + 1);
+
+        if (created != null && created > 0) {
+            log.info("Created {} event partition(s) up to {} months ahead", created, monthsAhead);
+        }
+    }
+}
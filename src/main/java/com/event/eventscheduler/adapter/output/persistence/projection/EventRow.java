@@ -0,0 +1,10 @@
+package com.event.eventscheduler.adapter.output.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-side projection of an event row: just the columns a response needs, selected straight into
+ * an immutable value. No entity is built, so Hibernate keeps no managed instance or dirty-checking snapshot.
+ */
+public record EventRow(Long id, String title, LocalDateTime startDate, LocalDateTime endDate, Long ruleId) {
+}
@@ -0,0 +1,42 @@
+package com.event.eventscheduler.adapter.output.persistence.repository;
+
+import com.event.eventscheduler.adapter.output.persistence.entity.EventArchiveEntity;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read side of the {@code event_archive} table: the same lookups as {@link EventRepository}, projected to the same rows.
+ */
+@Repository
+public interface EventArchiveRepository extends JpaRepository<EventArchiveEntity, Long> {
+
+    String ROW = "new com.event.eventscheduler.adapter.output.persistence.projection.EventRow(" +
+            "a.id, a.title, a.startDate, a.endDate, a.ruleId)";
+
+    @Query("SELECT " + ROW + " FROM EventArchiveEntity a WHERE a.startDate BETWEEN :startBoundary AND :endBoundary")
+    List<EventRow> findByStartDateBetween(
+            @Param("startBoundary") LocalDateTime startBoundary,
+            @Param("endBoundary") LocalDateTime endBoundary
+    );
+
+    @Query("SELECT " + ROW + " FROM EventArchiveEntity a WHERE a.startDate < :to AND a.endDate > :from ORDER BY a.startDate, a.id")
+    List<EventRow> findOverlapping(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Archived single events (no series) overlapping [from, to).
+     */
+    @Query("SELECT " + ROW + " FROM EventArchiveEntity a WHERE a.startDate < :to AND a.endDate > :from AND a.ruleId IS NULL")
+    List<EventRow> findOverlappingSingleEvents(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
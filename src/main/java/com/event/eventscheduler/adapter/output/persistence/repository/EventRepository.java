@@ -1,6 +1,9 @@
 package com.event.eventscheduler.adapter.output.persistence.repository;
 
 import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.index.IndexedInterval;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,33 +13,41 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface EventRepository extends JpaRepository<EventEntity, Long> {
+public interface EventRepository extends JpaRepository<EventEntity, Long>, EventRepositoryCustom {
+
+    // Constructor expression shared by the read-side projections
+    String ROW = "new com.event.eventscheduler.adapter.output.persistence.projection.EventRow(" +
+            "e.id, e.title, e.startDate, e.endDate, e.recurrenceRuleEntity.id)";
 
     /**
-     * This is a custom query that Spring Data automatically creates
-     * just from the method name.
+     * Events starting in the window, projected to rows; the rule id is read from the foreign key, without a join.
      */
-    List<EventEntity> findByStartDateBetween(LocalDateTime startBoundary, LocalDateTime endBoundary);
+    @Query("SELECT " + ROW + " FROM EventEntity e WHERE e.startDate BETWEEN :startBoundary AND :endBoundary")
+    List<EventRow> findByStartDateBetween(
+            @Param("startBoundary") LocalDateTime startBoundary,
+            @Param("endBoundary") LocalDateTime endBoundary
+    );
 
     /**
-     * This is a complex query, so we provide the JPQL (JPA Query Language)
-     * ourselves using @Query.
+     * Keyset paging: seeks past (startDate, id) on the (start_date, id) index instead of skipping an offset.
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.endDate > :newStart AND e.startDate < :newEnd")
-    List<EventEntity> findConflictingEvents(
-            @Param("newStart") LocalDateTime newStart,
-            @Param("newEnd") LocalDateTime newEnd
+    @Query("SELECT " + ROW + " FROM EventEntity e WHERE (e.startDate, e.id) > (:startDate, :id) ORDER BY e.startDate, e.id")
+    List<EventRow> findPageAfter(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("id") Long id,
+            Limit limit
     );
 
+    @Query("SELECT " + ROW + " FROM EventEntity e ORDER BY e.startDate, e.id")
+    List<EventRow> findFirstPage(Limit limit);
+
+    @Query("SELECT " + ROW + " FROM EventEntity e")
+    List<EventRow> findAllRows();
+
     /**
-     * This is the other complex query for checking conflicts during an update.
+     * Loads only what the in-memory conflict index needs, without building entities.
      */
-    @Query("SELECT e FROM EventEntity e WHERE " +
-            "(e.endDate > :newStart AND e.startDate < :newEnd) " +
-            "AND e.id != :eventIdToExclude")
-    List<EventEntity> findConflictingEventsExcludingId(
-            @Param("newStart") LocalDateTime newStart,
-            @Param("newEnd") LocalDateTime newEnd,
-            @Param("eventIdToExclude") Long eventIdToExclude
-    );
-}
\ No newline at end of file
+    @Query("SELECT new com.event.eventscheduler.adapter.output.persistence.index.IndexedInterval(e.id, e.startDate, e.endDate) " +
+            "FROM EventEntity e")
+    List<IndexedInterval> findAllIntervals();
+}
@@ -0,0 +1,62 @@
+package com.event.eventscheduler.adapter.output.persistence.repository;
+
+import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import com.event.eventscheduler.domain.model.TimeSlot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Everything overlapping [from, to), in start order. The start is also bounded from below by {@code longest},
+     * which must be at least the longest stored event's duration, so the read scans the (start_date, end_date)
+     * index from {@code from} minus that duration instead of from the first row, and Postgres prunes the monthly
+     * partitions before that point. A null {@code longest} is computed in the statement from the stored events.
+     */
+    List<EventRow> findOverlapping(LocalDateTime from, LocalDateTime to, Duration longest);
+
+    /**
+     * The events, with or without a series, overlapping [newStart, newEnd); bounded like {@link #findOverlapping}.
+     */
+    List<EventEntity> findConflictingEvents(LocalDateTime newStart, LocalDateTime newEnd, Duration longest);
+
+    /**
+     * Same as {@link #findConflictingEvents}, leaving out the event being updated.
+     */
+    List<EventEntity> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude,
+                                                       Duration longest);
+
+    /**
+     * The duration of the longest stored event, rounded up to the second; zero when there is none.
+     */
+    Duration findLongestDuration();
+
+    /**
+     * Returns the single events (rows without a series) overlapping any of the candidate slots.
+     * The slots are joined as a VALUES list, so the whole set costs one statement.
+     */
+    List<EventEntity> findConflictingSingleEvents(List<TimeSlot> candidateSlots);
+
+    /**
+     * Hands every event row to the action while reading through a server-side cursor.
+     * Rows are projections, not entities, so memory stays flat whatever the table size.
+     * Must run inside a transaction.
+     */
+    void forEachRow(Consumer<EventRow> action);
+
+    /**
+     * Same as {@link #forEachRow}, for the rows without a series.
+     */
+    void forEachSingleEventRow(Consumer<EventRow> action);
+
+    /**
+     * Moves up to {@code limit} events that ended before the cutoff, oldest first, from {@code event}
+     * to {@code event_archive}. Returns how many were moved; fewer than {@code limit} means none is left.
+     * Must run inside a transaction, so a batch is moved completely or not at all.
+     */
+    int archiveEndedBefore(LocalDateTime cutoff, int limit);
+}
@@ -0,0 +1,191 @@
+package com.event.eventscheduler.adapter.output.persistence.repository;
+
+import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.NativeQuery;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    // Two bind parameters per slot; keeps a 1000-occurrence series in one statement
+    static final int MAX_SLOTS_PER_QUERY = 1000;
+
+    // Rows per cursor round trip when streaming the whole table
+    static final int STREAM_FETCH_SIZE = 500;
+
+    // Nothing overlapping the window can start earlier than its start minus the longest stored event.
+    // Given as a bind parameter, the bound lets Postgres leave the monthly partitions before it out of the plan;
+    // computed in the statement, it is read from the duration index (V9 migration) and they are skipped at run time.
+    private static final String OVERLAPS = "e.start_date < :to AND e.end_date > :from AND e.start_date >= :earliestStart";
+    private static final String OVERLAPS_LONGEST_STORED = "e.start_date < :to AND e.end_date > :from " +
+            "AND e.start_date >= CAST(:from AS TIMESTAMP) - (SELECT MAX(d.end_date - d.start_date) FROM event d)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventRow> findOverlapping(LocalDateTime from, LocalDateTime to, Duration longest) {
+        Query query = entityManager.createNativeQuery(
+                        "SELECT e.id, e.title, e.start_date, e.end_date, e.rule_id FROM event e " +
+                                "WHERE " + overlaps(longest) + " ORDER BY e.start_date, e.id");
+        return bindOverlap(query, from, to, longest)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("start_date", LocalDateTime.class)
+                .addScalar("end_date", LocalDateTime.class)
+                .addScalar("rule_id", Long.class)
+                .setTupleTransformer((tuple, aliases) -> new EventRow(
+                        (Long) tuple[0], (String) tuple[1], (LocalDateTime) tuple[2], (LocalDateTime) tuple[3], (Long) tuple[4]))
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventEntity> findConflictingEvents(LocalDateTime newStart, LocalDateTime newEnd, Duration longest) {
+        Query query = entityManager.createNativeQuery("SELECT e.* FROM event e WHERE " + overlaps(longest), EventEntity.class);
+        return bindOverlap(query, newStart, newEnd, longest)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventEntity> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude,
+                                                              Duration longest) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT e.* FROM event e WHERE " + overlaps(longest) + " AND e.id <> :excludedId", EventEntity.class);
+        return bindOverlap(query, newStart, newEnd, longest)
+                .setParameter("excludedId", eventIdToExclude)
+                .getResultList();
+    }
+
+    private static String overlaps(Duration longest) {
+        return longest != null ? OVERLAPS : OVERLAPS_LONGEST_STORED;
+    }
+
+    private static Query bindOverlap(Query query, LocalDateTime from, LocalDateTime to, Duration longest) {
+        query.setParameter("from", from).setParameter("to", to);
+        if (longest != null) {
+            query.setParameter("earliestStart", from.minus(longest));
+        }
+        return query;
+    }
+
+    @Override
+    public Duration findLongestDuration() {
+        // On Postgres the maximum is read from the duration index (V9 migration), one probe per partition
+        Number seconds = (Number) entityManager.createNativeQuery(
+                        "SELECT EXTRACT(EPOCH FROM MAX(end_date - start_date)) FROM event")
+                .getSingleResult();
+        return seconds != null ? Duration.ofSeconds((long) Math.ceil(seconds.doubleValue())) : Duration.ZERO;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventEntity> findConflictingSingleEvents(List<TimeSlot> candidateSlots) {
+        if (candidateSlots.isEmpty()) {
+            return List.of();
+        }
+
+        // The same event can overlap slots from different chunks, so de-duplicate by id
+        Map<Long, EventEntity> conflicts = new LinkedHashMap<>();
+
+        for (int from = 0; from < candidateSlots.size(); from += MAX_SLOTS_PER_QUERY) {
+            List<TimeSlot> chunk = candidateSlots.subList(from, Math.min(from + MAX_SLOTS_PER_QUERY, candidateSlots.size()));
+
+            Query query = entityManager.createNativeQuery(buildConflictSql(chunk.size()), EventEntity.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter("s" + i, chunk.get(i).getStart());
+                query.setParameter("e" + i, chunk.get(i).getEnd());
+            }
+
+            for (EventEntity entity : (List<EventEntity>) query.getResultList()) {
+                conflicts.putIfAbsent(entity.getId(), entity);
+            }
+        }
+
+        return new ArrayList<>(conflicts.values());
+    }
+
+    /**
+     * Builds the join against an inline VALUES list. Works on both Postgres and H2.
+     */
+    private String buildConflictSql(int slotCount) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < slotCount; i++) {
+            if (i > 0) values.append(", ");
+            values.append("(CAST(:s").append(i).append(" AS TIMESTAMP), CAST(:e").append(i).append(" AS TIMESTAMP))");
+        }
+
+        return "SELECT DISTINCT e.* FROM event e " +
+                "JOIN (VALUES " + values + ") AS slot(slot_start, slot_end) " +
+                "ON e.end_date > slot.slot_start AND e.start_date < slot.slot_end " +
+                "WHERE e.rule_id IS NULL";
+    }
+
+    @Override
+    public void forEachRow(Consumer<EventRow> action) {
+        forEachRow("SELECT " + EventRepository.ROW + " FROM EventEntity e", action);
+    }
+
+    @Override
+    public void forEachSingleEventRow(Consumer<EventRow> action) {
+        forEachRow("SELECT " + EventRepository.ROW + " FROM EventEntity e WHERE e.recurrenceRuleEntity.id IS NULL", action);
+    }
+
+    private void forEachRow(String jpql, Consumer<EventRow> action) {
+        try (Stream<EventRow> rows = entityManager.createQuery(jpql, EventRow.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream()) {
+            rows.forEach(action);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int archiveEndedBefore(LocalDateTime cutoff, int limit) {
+        // start_date <= end_date, so the start bound is implied; it lets Postgres prune to the old partitions.
+        // Another instance's run holds its batch locked until commit, so this one claims the next rows instead
+        // of copying the same ids into the archive.
+        List<Long> ids = ((List<Number>) entityManager.createNativeQuery(
+                        "SELECT id FROM event WHERE end_date < :cutoff AND start_date < :cutoff " +
+                                "ORDER BY end_date, id LIMIT :limit FOR UPDATE SKIP LOCKED")
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .getResultList())
+                .stream()
+                .map(Number::longValue)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        entityManager.createNativeQuery(
+                        "INSERT INTO event_archive (id, title, start_date, end_date, rule_id) " +
+                                "SELECT id, title, start_date, end_date, rule_id FROM event " +
+                                "WHERE id IN (:ids) AND start_date < :cutoff")
+                .setParameter("ids", ids)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+
+        return entityManager.createNativeQuery("DELETE FROM event WHERE id IN (:ids) AND start_date < :cutoff")
+                .setParameter("ids", ids)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+}
@@ -1,10 +1,101 @@
 package com.event.eventscheduler.adapter.output.persistence.repository;
 
 import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Repository
 public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRuleEntity, Long> {
-    // We don't need any custom methods for this one
-}
\ No newline at end of file
+
+    /**
+     * Virtual series whose [startDate, repeatUntilDate] span intersects [from, to].
+     */
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.virtual = true " +
+            "AND r.startDate <= :to " +
+            "AND (r.repeatUntilDate IS NULL OR r.repeatUntilDate >= :from)")
+    List<RecurrenceRuleEntity> findVirtualRulesActiveBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    List<RecurrenceRuleEntity> findByVirtualTrue();
+
+    /**
+     * Series, virtual or materialized, that can fall on one of the days, whose time window intersects
+     * [startTime, endTime) and whose [startDate, seriesEndDate) span intersects [from, toExclusive).
+     */
+    @Query("SELECT DISTINCT r FROM RecurrenceRuleEntity r JOIN r.occurrenceDays d " +
+            "WHERE d IN :days " +
+            "AND r.startTime < :endTime AND r.endTime > :startTime " +
+            "AND r.startDate < :toExclusive " +
+            "AND (r.seriesEndDate IS NULL OR r.seriesEndDate > :from)")
+    List<RecurrenceRuleEntity> findCandidateRules(
+            @Param("days") Set<DayOfWeek> days,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("from") LocalDate from,
+            @Param("toExclusive") LocalDate toExclusive
+    );
+
+    /**
+     * Materialized series whose stored rows stop before {@code horizon} although the series goes on,
+     * furthest behind first.
+     */
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.virtual = false " +
+            "AND r.materializedUntil < :horizon " +
+            "AND (r.seriesEndDate IS NULL OR r.seriesEndDate > r.materializedUntil) " +
+            "ORDER BY r.materializedUntil, r.id")
+    List<RecurrenceRuleEntity> findRulesToMaterialize(@Param("horizon") LocalDate horizon, Limit limit);
+
+    /**
+     * Materialized series that have occurrences not yet stored as rows on a date in [from, to].
+     */
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.virtual = false " +
+            "AND r.materializedUntil <= :to " +
+            "AND (r.seriesEndDate IS NULL OR (r.seriesEndDate > :from AND r.seriesEndDate > r.materializedUntil))")
+    List<RecurrenceRuleEntity> findUnmaterializedRulesBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.virtual = false AND r.materializedUntil IS NOT NULL " +
+            "AND (r.seriesEndDate IS NULL OR r.seriesEndDate > r.materializedUntil)")
+    List<RecurrenceRuleEntity> findAllUnmaterializedRules();
+
+    /**
+     * Moves the watermark only if no one else has moved it since {@code expected} was read.
+     */
+    @Modifying
+    @Query("UPDATE RecurrenceRuleEntity r SET r.materializedUntil = :until " +
+            "WHERE r.id = :id AND r.materializedUntil = :expected")
+    int advanceMaterializedUntil(
+            @Param("id") Long id,
+            @Param("expected") LocalDate expected,
+            @Param("until") LocalDate until
+    );
+
+    /**
+     * Every rule through a server-side cursor, read-only so no dirty-checking snapshots are kept.
+     * Must run inside a transaction, and the stream must be closed.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM RecurrenceRuleEntity r ORDER BY r.id")
+    Stream<RecurrenceRuleEntity> streamAllRules();
+}
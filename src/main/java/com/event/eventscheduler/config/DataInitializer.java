@@ -4,6 +4,7 @@ import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
 import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
 import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
 import com.event.eventscheduler.adapter.output.persistence.repository.RecurrenceRuleRepository;
+import com.event.eventscheduler.domain.model.Frequency;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
@@ -14,7 +15,9 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 @Profile("!test")
@@ -43,14 +46,16 @@ public class DataInitializer {
                     DayOfWeek.MONDAY,
                     LocalTime.of(9, 0),
                     LocalTime.of(9, 30),
-                    LocalDate.now().plusMonths(3)); // Repeats for next 3 months
+                    LocalDate.now().plusMonths(3), // Repeats for next 3 months
+                    false);
 
             // --- 3. Add Cyclic EventEntity (Forever EventEntity for Conflict Testing) ---
             addCyclicEvent("Lunch Break Conflict",
                     DayOfWeek.FRIDAY,
                     LocalTime.of(12, 0),
                     LocalTime.of(13, 0),
-                    null); // Repeat forever (capped by service logic)
+                    null, // Repeat forever
+                    true); // Virtual: stored only as its rule, expanded on read
 
             System.out.println("Database initialization complete. Total events generated: " + eventRepository.count());
         };
@@ -67,30 +72,44 @@ public class DataInitializer {
     }
 
     // Helper method to create rule and generate initial events
-    private void addCyclicEvent(String title, DayOfWeek day, LocalTime start, LocalTime end, LocalDate repeatUntil) {
+    private void addCyclicEvent(String title, DayOfWeek day, LocalTime start, LocalTime end, LocalDate repeatUntil, boolean virtual) {
         RecurrenceRuleEntity rule = new RecurrenceRuleEntity();
-        rule.setDateOfWeek(day);
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(1);
+        rule.setByDay(EnumSet.of(day));
         rule.setStartTime(start);
         rule.setEndTime(end);
         rule.setRepeatUntilDate(repeatUntil);
+        rule.setTitle(title);
+        rule.setStartDate(LocalDate.now());
+        rule.setVirtual(virtual);
+        rule.setOccurrenceDays(EnumSet.of(day));
+        rule.setSeriesEndDate(repeatUntil != null ? repeatUntil.plusDays(1) : null);
 
         rule = recurrenceRuleRepository.save(rule);
 
+        if (virtual) {
+            return; // Occurrences are expanded by EventService when read
+        }
+
         // Simulate the recurrence logic (similar to EventService.generateEventsFromRule)
         List<EventEntity> eventEntities = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        LocalDate endExclusive = repeatUntil != null ? repeatUntil.plusDays(1) : today.plusMonths(3);
+        LocalDate endExclusive = repeatUntil != null ? repeatUntil.plusDays(1) : LocalDate.now().plusMonths(3);
 
-        int count = 0;
         final int MAX_INIT_EVENTS = 5; // Generate only a few initial eventEntities for quick setup
 
-        for (LocalDate date = today; date.isBefore(endExclusive) && count < MAX_INIT_EVENTS; date = date.plusDays(1)) {
-            if (date.getDayOfWeek() == day) {
-                eventEntities.add(new EventEntity(null, title, LocalDateTime.of(date, start), LocalDateTime.of(date, end), rule));
-                count++;
-            }
+        for (LocalDate date = LocalDate.now().with(TemporalAdjusters.nextOrSame(day));
+             date.isBefore(endExclusive) && eventEntities.size() < MAX_INIT_EVENTS;
+             date = date.plusWeeks(1)) {
+            eventEntities.add(new EventEntity(null, title, LocalDateTime.of(date, start), LocalDateTime.of(date, end), rule));
         }
 
+        // The background job stores the rest of the series, starting after the last seeded row
+        rule.setMaterializedUntil(eventEntities.isEmpty()
+                ? rule.getStartDate()
+                : eventEntities.get(eventEntities.size() - 1).getStartDate().toLocalDate().plusDays(1));
+        recurrenceRuleRepository.save(rule);
+
         eventRepository.saveAll(eventEntities);
     }
 }
\ No newline at end of file
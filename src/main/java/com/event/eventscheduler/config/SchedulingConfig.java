@@ -0,0 +1,12 @@
+package com.event.eventscheduler.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on {@code @Scheduled} background jobs, such as the series materialization job.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,130 @@
+package com.event.eventscheduler.config.metrics;
+
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Times every use case and repository port method, tagged with the implementing class, the method
+ * and the exception thrown (if any). Use cases also count schedule conflicts and the occurrences
+ * of each created series; ports record how many rows each call returned.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetricsAspect {
+
+    static final String USE_CASE_TIMER = "scheduler.usecase";
+    static final String PORT_TIMER = "scheduler.port";
+    static final String CONFLICTS = "scheduler.conflicts";
+    static final String SERIES_OCCURRENCES = "scheduler.series.occurrences";
+    static final String PORT_ROWS = "scheduler.port.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.event.eventscheduler.domain.port.input.*UseCase.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = className(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            if ("createCyclicEvent".equals(method) && result instanceof List<?> occurrences) {
+                DistributionSummary.builder(SERIES_OCCURRENCES)
+                        .description("Occurrences generated per created series")
+                        .register(meterRegistry)
+                        .record(occurrences.size());
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            if (e instanceof ScheduleConflictException) {
+                Counter.builder(CONFLICTS)
+                        .description("Writes rejected because they overlap an existing event")
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .increment();
+            }
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(USE_CASE_TIMER)
+                    .tags("class", className, "method", method, "exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(* com.event.eventscheduler.domain.port.output.EventRepositoryPort.*(..))"
+            + " || execution(* com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort.*(..))")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = className(joinPoint);
+        String method = joinPoint.getSignature().getName();
+
+        // Streaming methods return nothing, so count what passes through the consumer instead
+        Object[] args = joinPoint.getArgs();
+        LongAdder streamed = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Consumer<?> consumer) {
+                streamed = new LongAdder();
+                args[i] = counting(consumer, streamed);
+            }
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed(args);
+            long rows = streamed != null ? streamed.sum() : rowsIn(result);
+            if (rows >= 0) {
+                DistributionSummary.builder(PORT_ROWS)
+                        .description("Rows returned per repository call")
+                        .tags("class", className, "method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(PORT_TIMER)
+                    .tags("class", className, "method", method, "exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String className(ProceedingJoinPoint joinPoint) {
+        return ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    private static long rowsIn(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private static <T> Consumer<T> counting(Consumer<T> consumer, LongAdder counter) {
+        return item -> {
+            counter.increment();
+            consumer.accept(item);
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.event.eventscheduler.config.metrics;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the data source so that statements running longer than
+ * {@code scheduler.slow-query.threshold-ms} are logged as a WARN on the {@code scheduler.slow-query}
+ * logger, together with their bound parameters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scheduler.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    static final String LOGGER_NAME = "scheduler.slow-query";
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            @Value("${scheduler.slow-query.threshold-ms:500}") long thresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .logSlowQueryBySlf4j(thresholdMillis, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, LOGGER_NAME)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.event.eventscheduler.domain.model;
+
+/**
+ * How a bulk import treats rejected items: roll back the whole batch, or keep the items that passed.
+ */
+public enum BulkImportMode {
+    ALL_OR_NOTHING,
+    PARTIAL
+}
@@ -0,0 +1,22 @@
+package com.event.eventscheduler.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Result of the item at {@code index} in a bulk import; {@code event} is set only when it was created.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+
+    private int index;
+    private BulkItemStatus status;
+    private Event event;
+    private String message;
+
+}
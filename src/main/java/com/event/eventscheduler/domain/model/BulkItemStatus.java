@@ -0,0 +1,12 @@
+package com.event.eventscheduler.domain.model;
+
+/**
+ * Outcome of one item of a bulk import.
+ */
+public enum BulkItemStatus {
+    CREATED,
+    INVALID,
+    CONFLICT,
+    // Valid and conflict-free, but dropped because another item failed an all-or-nothing import
+    SKIPPED
+}
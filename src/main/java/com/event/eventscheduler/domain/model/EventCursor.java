@@ -0,0 +1,35 @@
+package com.event.eventscheduler.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in the (startDate, key) ordering of all events, used for keyset paging.
+ * The key is the row id for stored events and the negated rule id for virtual occurrences,
+ * which have no row but never share a start with another occurrence of the same series.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCursor implements Comparable<EventCursor> {
+
+    private LocalDateTime startDate;
+    private long key;
+
+    public static EventCursor of(Event event) {
+        long key = event.getId() != null ? event.getId() : -event.getRecurrenceRule().getId();
+        return new EventCursor(event.getStartDate(), key);
+    }
+
+    @Override
+    public int compareTo(EventCursor other) {
+        int byStart = startDate.compareTo(other.startDate);
+        return byStart != 0 ? byStart : Long.compare(key, other.key);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.event.eventscheduler.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One page of events in (startDate, key) order; {@code next} is null on the last page.
+ * Series without an end are listed on dates before {@code listedUntil} only.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+
+    private List<Event> events;
+    private EventCursor next;
+    private LocalDate listedUntil;
+
+}
@@ -0,0 +1,11 @@
+package com.event.eventscheduler.domain.model;
+
+/**
+ * RFC 5545 FREQ values supported by the recurrence engine.
+ */
+public enum Frequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY
+}
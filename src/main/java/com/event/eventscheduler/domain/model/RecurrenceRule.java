@@ -8,8 +8,15 @@ import lombok.Setter;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
 
 
+/**
+ * An RFC 5545 style recurrence: FREQ, INTERVAL, BYDAY, COUNT, UNTIL and EXDATE,
+ * anchored at startDate (DTSTART) and occurring from startTime to endTime on each date.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,9 +24,26 @@ import java.time.LocalTime;
 public class RecurrenceRule {
 
     private Long id;
-    private DayOfWeek dayOfWeek;
-    private LocalDate repeatUntilDate;
+    private Frequency frequency;
+    private int interval = 1;
+    private Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+    private Integer count;                  // COUNT, null when open-ended or bounded by UNTIL
+    private LocalDate repeatUntilDate;      // UNTIL, inclusive
+    private Set<LocalDate> exDates = new HashSet<>();
     private LocalTime startTime;
     private LocalTime endTime;
 
+    private String title;
+    private LocalDate startDate;    // DTSTART, the first day the series can occur on
+
+    // A virtual series is stored only as its rule; occurrences are expanded on read
+    private boolean virtual;
+
+    // Day after the last occurrence the series produces; null when it never ends or that is not known yet
+    private LocalDate seriesEndDate;
+
+    // Materialized series only: every occurrence before this date is stored as a row, later ones are expanded
+    // on read until the background job moves the watermark forward
+    private LocalDate materializedUntil;
+
 }
@@ -0,0 +1,27 @@
+package com.event.eventscheduler.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A half-open time interval [start, end), used to look up overlaps
+ * without building a full Event.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSlot {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    public boolean overlaps(TimeSlot other) {
+        return end.isAfter(other.start) && start.isBefore(other.end);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.event.eventscheduler.domain.port.input;
+
+import java.time.LocalDate;
+
+public interface ArchiveEventsUseCase {
+
+    /**
+     * Moves up to {@code maxEvents} events that ended before {@code cutoff}, oldest first, to the archive
+     * in one transaction. Returns how many were moved; fewer than {@code maxEvents} means none is left.
+     */
+    int archiveEndedBefore(LocalDate cutoff, int maxEvents);
+}
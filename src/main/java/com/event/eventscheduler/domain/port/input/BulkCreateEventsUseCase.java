@@ -0,0 +1,12 @@
+package com.event.eventscheduler.domain.port.input;
+
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+
+import java.util.List;
+
+public interface BulkCreateEventsUseCase {
+
+    List<BulkItemResult> createEvents(List<CreateSingleEventCommand> commands, BulkImportMode mode);
+}
@@ -0,0 +1,15 @@
+package com.event.eventscheduler.domain.port.input;
+
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+
+import java.util.function.Consumer;
+
+public interface ExportCalendarUseCase {
+
+    /**
+     * Hands every series to {@code series} once, as its rule, then every single event to {@code singleEvents},
+     * one at a time. The occurrences of a series are never listed one by one.
+     */
+    void exportCalendar(Consumer<RecurrenceRule> series, Consumer<Event> singleEvents);
+}
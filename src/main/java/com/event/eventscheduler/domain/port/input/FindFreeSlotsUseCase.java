@@ -0,0 +1,23 @@
+package com.event.eventscheduler.domain.port.input;
+
+import com.event.eventscheduler.domain.model.TimeSlot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+public interface FindFreeSlotsUseCase {
+
+    /**
+     * Free intervals of at least {@code minDuration} on the days [from, to]; with working hours
+     * (both bounds or neither), only the part of each day inside them counts.
+     */
+    List<TimeSlot> findFreeSlots(LocalDate from, LocalDate to, Duration minDuration, LocalTime workdayStart, LocalTime workdayEnd);
+
+    /**
+     * The first {@code count} back-to-back slots of exactly {@code length} that start at or after {@code after}.
+     */
+    List<TimeSlot> findAvailableSlots(LocalDateTime after, Duration length, int count, LocalTime workdayStart, LocalTime workdayEnd);
+}
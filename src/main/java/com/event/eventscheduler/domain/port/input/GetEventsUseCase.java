@@ -1,12 +1,26 @@
 package com.event.eventscheduler.domain.port.input;
 
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.EventPage;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface GetEventsUseCase {
     List<Event> getEventsForDate(LocalDate date);
+    List<Event> getEventsBetween(LocalDate from, LocalDate to);
+    Map<LocalDate, List<Event>> getEventsByDay(LocalDate from, LocalDate to);
     List<Event> findAll();
+    EventPage findPage(EventCursor after, int limit);
+    void streamAll(Consumer<Event> consumer);
+
+    /**
+     * The first date on which findAll, findPage and streamAll no longer list occurrences of series without an end.
+     * Date and range queries expand those series on any date.
+     */
+    LocalDate listingHorizon();
 
 }
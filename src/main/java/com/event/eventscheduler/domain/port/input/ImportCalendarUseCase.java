@@ -0,0 +1,15 @@
+package com.event.eventscheduler.domain.port.input;
+
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.port.input.command.CalendarImportItem;
+
+import java.util.List;
+
+public interface ImportCalendarUseCase {
+
+    /**
+     * Creates one batch of imported items in a single transaction, keeping whatever can be created.
+     * Results follow the order of {@code items}, with indexes relative to the batch.
+     */
+    List<BulkItemResult> importBatch(List<CalendarImportItem> items);
+}
@@ -0,0 +1,13 @@
+package com.event.eventscheduler.domain.port.input;
+
+import java.time.LocalDate;
+
+public interface MaterializeSeriesUseCase {
+
+    /**
+     * Stores the occurrences of up to {@code maxRules} materialized series, furthest behind first, up to
+     * {@code horizon} (exclusive) in one transaction. Returns how many series were handled; fewer than
+     * {@code maxRules} means none is left behind.
+     */
+    int materializeAhead(LocalDate horizon, int maxRules);
+}
@@ -0,0 +1,18 @@
+package com.event.eventscheduler.domain.port.input.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One entry of an imported calendar: exactly one of {@code singleEvent} and {@code series} is set.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarImportItem {
+    private CreateSingleEventCommand singleEvent;
+    private CreateCyclicEventCommand series;
+}
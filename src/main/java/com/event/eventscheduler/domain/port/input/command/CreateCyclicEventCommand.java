@@ -9,4 +9,5 @@ import lombok.Setter;
 public class CreateCyclicEventCommand {
     private String title;
     private RecurrenceRuleCommand recurrenceRule;
+    private boolean virtual;    // Store only the rule and expand occurrences on read
 }
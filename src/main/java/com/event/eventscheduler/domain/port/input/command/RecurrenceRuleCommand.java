@@ -1,6 +1,7 @@
 package com.event.eventscheduler.domain.port.input.command;
 
 
+import com.event.eventscheduler.domain.model.Frequency;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,12 +10,18 @@ import lombok.Setter;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 @Getter @Setter @AllArgsConstructor @NoArgsConstructor
 public class RecurrenceRuleCommand {
 
-    private DayOfWeek dayOfWeek;
+    private Frequency frequency;
+    private Integer interval;           // Defaults to 1
+    private Set<DayOfWeek> byDay;
+    private Integer count;
     private LocalDate repeatUntilDate;
+    private Set<LocalDate> exDates;
+    private LocalDate startDate;        // Defaults to today
     private LocalTime startTime;
     private LocalTime endTime;
 }
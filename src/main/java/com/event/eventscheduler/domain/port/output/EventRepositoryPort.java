@@ -1,10 +1,13 @@
 package com.event.eventscheduler.domain.port.output;
 
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.TimeSlot;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EventRepositoryPort {
 
@@ -20,5 +23,48 @@ public interface EventRepositoryPort {
 
     List<Event> findConflictingEventsExcludingId(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude);
 
+    /**
+     * Finds every stored single event (one not belonging to a series) that overlaps at least one
+     * of the given slots, resolved in a single round trip instead of one query per slot.
+     * Series are compared rule against rule through {@link RecurrenceRuleRepositoryPort#findCandidateRules}.
+     */
+    List<Event> findConflictingSingleEvents(List<TimeSlot> candidateSlots);
+
     List<Event> findAll();
-}
\ No newline at end of file
+
+    /**
+     * Stored events overlapping [from, toExclusive) in start order, including those that began earlier.
+     */
+    List<Event> findOverlapping(LocalDateTime from, LocalDateTime toExclusive);
+
+    /**
+     * Up to {@code limit} stored events strictly after the cursor in (startDate, id) order;
+     * a null cursor starts from the beginning.
+     */
+    List<Event> findPageAfter(EventCursor after, int limit);
+
+    /**
+     * Hands every stored event to the consumer one at a time, without loading the table into memory.
+     */
+    void streamAll(Consumer<Event> consumer);
+
+    /**
+     * Like {@link #streamAll}, for the single events only (those not belonging to a series).
+     */
+    void streamSingleEvents(Consumer<Event> consumer);
+
+    /**
+     * Moves up to {@code limit} events that ended before {@code cutoff} out of the hot store, oldest first,
+     * and returns how many were moved. Archived events still answer the date-window reads and conflict checks
+     * of windows starting before today, but no longer appear in {@link #findAll()}, paging or streaming.
+     */
+    int archiveEndedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * True when the store itself rejects overlapping events on save (throwing
+     * {@link com.event.eventscheduler.domain.exception.ScheduleConflictException}),
+     * so the conflict pre-check query can be skipped on the write path.
+     * A store may reject them either way; false only means the pre-check is still needed.
+     */
+    boolean rejectsOverlappingWrites();
+}
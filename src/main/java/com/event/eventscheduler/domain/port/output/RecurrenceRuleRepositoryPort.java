@@ -2,7 +2,13 @@ package com.event.eventscheduler.domain.port.output;
 
 import com.event.eventscheduler.domain.model.RecurrenceRule;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface RecurrenceRuleRepositoryPort {
 
@@ -10,4 +16,50 @@ public interface RecurrenceRuleRepositoryPort {
 
     Optional<RecurrenceRule> findById(Long id);
 
+    /**
+     * Finds the virtual series that can have an occurrence between the two dates (inclusive).
+     */
+    List<RecurrenceRule> findVirtualRulesActiveBetween(LocalDate from, LocalDate to);
+
+    List<RecurrenceRule> findAllVirtualRules();
+
+    /**
+     * Finds every series, virtual or materialized, that falls on one of the days, overlaps the time window
+     * and whose span intersects [from, toExclusive): the only rules a new series with those bounds can clash with.
+     */
+    List<RecurrenceRule> findCandidateRules(Set<DayOfWeek> days, LocalTime startTime, LocalTime endTime,
+                                            LocalDate from, LocalDate toExclusive);
+
+    /**
+     * Up to {@code limit} materialized series whose rows stop before {@code horizon} while the series goes on,
+     * furthest behind first.
+     */
+    List<RecurrenceRule> findRulesToMaterialize(LocalDate horizon, int limit);
+
+    /**
+     * Materialized series with occurrences on a date in [from, to] that are not stored as rows yet.
+     */
+    List<RecurrenceRule> findUnmaterializedRulesBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Materialized series with occurrences that are not stored as rows yet, on any date.
+     */
+    List<RecurrenceRule> findAllUnmaterializedRules();
+
+    /**
+     * Moves a series' materialization watermark from {@code expected} to {@code until}.
+     * Returns false, changing nothing, when the watermark is no longer at {@code expected}.
+     */
+    boolean advanceMaterializedUntil(Long ruleId, LocalDate expected, LocalDate until);
+
+    /**
+     * Adds the dates to a series' EXDATEs, so it no longer has occurrences on them.
+     */
+    void addExDates(Long ruleId, Set<LocalDate> dates);
+
+    /**
+     * Hands every series, virtual or materialized, to the consumer one at a time, in id order.
+     */
+    void streamAll(Consumer<RecurrenceRule> consumer);
+
 }
@@ -0,0 +1,19 @@
+package com.event.eventscheduler.domain.port.output;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Tells interested adapters which days a write touched, so anything derived from those days can be dropped.
+ * Implementations deliver the notice only once the surrounding transaction commits.
+ */
+public interface ScheduleChangeNotifierPort {
+
+    void daysChanged(Set<LocalDate> days);
+
+    /**
+     * For writes with no last day, such as a series that is expanded on read on any date: every day from
+     * {@code firstDay} on may have changed.
+     */
+    void daysChangedFrom(LocalDate firstDay);
+}
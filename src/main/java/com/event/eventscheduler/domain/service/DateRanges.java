@@ -0,0 +1,28 @@
+package com.event.eventscheduler.domain.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The limits every day-range read shares, so adapters can reject a range before doing any work for it.
+ */
+public final class DateRanges {
+
+    public static final int MAX_RANGE_DAYS = 62;
+
+    private DateRanges() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code to} is before {@code from} or the days [from, to]
+     *                                  are more than {@link #MAX_RANGE_DAYS}
+     */
+    public static void validate(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE_DAYS + " days.");
+        }
+    }
+}
@@ -4,33 +4,79 @@ package com.event.eventscheduler.domain.service;
 
 import com.event.eventscheduler.domain.exception.ResourceNotFoundException;
 import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.EventPage;
 import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import com.event.eventscheduler.domain.port.input.ArchiveEventsUseCase;
+import com.event.eventscheduler.domain.port.input.BulkCreateEventsUseCase;
 import com.event.eventscheduler.domain.port.input.CreateCyclicEventUseCase;
 import com.event.eventscheduler.domain.port.input.CreateEventUseCase;
+import com.event.eventscheduler.domain.port.input.ExportCalendarUseCase;
+import com.event.eventscheduler.domain.port.input.FindFreeSlotsUseCase;
 import com.event.eventscheduler.domain.port.input.GetEventsUseCase;
+import com.event.eventscheduler.domain.port.input.ImportCalendarUseCase;
+import com.event.eventscheduler.domain.port.input.MaterializeSeriesUseCase;
 import com.event.eventscheduler.domain.port.input.UpdateEventUseCase;
+import com.event.eventscheduler.domain.port.input.command.CalendarImportItem;
 import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
 import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import com.event.eventscheduler.domain.port.input.command.RecurrenceRuleCommand;
 import com.event.eventscheduler.domain.port.input.command.UpdateEventCommand;
 import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
 import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
+import com.event.eventscheduler.domain.port.output.ScheduleChangeNotifierPort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class EventService implements CreateEventUseCase, UpdateEventUseCase, CreateCyclicEventUseCase, GetEventsUseCase {
+public class EventService implements CreateEventUseCase, UpdateEventUseCase, CreateCyclicEventUseCase, GetEventsUseCase,
+        BulkCreateEventsUseCase, FindFreeSlotsUseCase, MaterializeSeriesUseCase, ArchiveEventsUseCase,
+        ExportCalendarUseCase, ImportCalendarUseCase {
+
+    private static final int MAX_EVENTS = 1000;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_AVAILABLE_SLOTS = 100;
 
     private final EventRepositoryPort eventRepositoryPort;
     private final RecurrenceRuleRepositoryPort recurrenceRuleRepositoryPort;
+    private final ScheduleChangeNotifierPort scheduleChangeNotifierPort;
+
+    // How far ahead of today a materialized series is stored as rows; the rest is expanded on read
+    @Value("${scheduler.materialization.horizon-weeks:12}")
+    private int horizonWeeks = 12;
+
+    // How far ahead of today whole-store listings expand series without an end; date queries expand them anywhere
+    @Value("${scheduler.listing.horizon-months:12}")
+    private int listingHorizonMonths = 12;
 
     @Override
     @Transactional
@@ -45,32 +91,172 @@ public class EventService implements CreateEventUseCase, UpdateEventUseCase, Cre
         event.setEndDate(command.getEndDate());
         event.setRecurrenceRule(null);  // It's a single event
 
-        return eventRepositoryPort.save(event);
+        Event saved = eventRepositoryPort.save(event);
+        scheduleChangeNotifierPort.daysChanged(daysTouched(List.of(saved)));
+        return saved;
     }
 
     @Override
     @Transactional
     public List<Event> createCyclicEvent(CreateCyclicEventCommand command) {
+        PlannedSeries series = planSeries(command);
+        checkSeriesForConflicts(series.rule(), series.slots());
+        return storeSeries(series);
+    }
+
+    /**
+     * A series ready to be checked and stored: its rule with the series end and watermark set,
+     * and every occurrence generated up to {@code generatedUntil} (exclusive).
+     */
+    private record PlannedSeries(RecurrenceRule rule, List<Event> events, LocalDate generatedUntil) {
+
+        List<TimeSlot> slots() {
+            return events.stream()
+                    .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private PlannedSeries planSeries(CreateCyclicEventCommand command) {
         // 1. Map Command (domain) -> Model (domain)
-        RecurrenceRule rule = new RecurrenceRule();
-        rule.setDayOfWeek(command.getRecurrenceRule().getDayOfWeek());
-        rule.setRepeatUntilDate(command.getRecurrenceRule().getRepeatUntilDate());
-        rule.setStartTime(command.getRecurrenceRule().getStartTime());
-        rule.setEndTime(command.getRecurrenceRule().getEndTime());
+        RecurrenceRule rule = toRule(command.getRecurrenceRule());
+        rule.setTitle(command.getTitle());
+        rule.setVirtual(command.isVirtual());
+        RecurrenceExpander.validate(rule);
+
+        // 2. Generate DOMAIN MODELS (not entities); open-ended series are cut at one year
+        List<Event> events = generateEventsFromRule(rule, command.getTitle());
+
+        // 3. Record where the series ends, so it can be checked rule against rule
+        LocalDate generatedUntil = events.isEmpty()
+                ? rule.getStartDate()
+                : events.get(events.size() - 1).getStartDate().toLocalDate().plusDays(1);
+        rule.setSeriesEndDate(seriesEndDate(rule, events.size(), generatedUntil));
+
+        // 4. A materialized series stores only its first horizon chunk; the background job extends it later
+        if (!rule.isVirtual()) {
+            LocalDate horizon = (rule.getStartDate().isAfter(LocalDate.now()) ? rule.getStartDate() : LocalDate.now()).plusWeeks(horizonWeeks);
+            rule.setMaterializedUntil(horizon.isBefore(generatedUntil) ? horizon : generatedUntil);
+        }
+        return new PlannedSeries(rule, events, generatedUntil);
+    }
 
-        // 2. Save the rule using the PORT
+    private List<Event> storeSeries(PlannedSeries series) {
+        RecurrenceRule rule = series.rule();
+        List<Event> events = series.events();
+
+        // 5. Save the rule using the PORT
         RecurrenceRule savedRule = recurrenceRuleRepositoryPort.save(rule);
+        events.forEach(event -> event.setRecurrenceRule(savedRule));
+
+        // 6. Every day the series touches changes, whether or not it is stored as rows. Reads expand a series
+        //    with no known end, or one cut at MAX_EVENTS, on any date, so every day from its start changes
+        if (savedRule.getSeriesEndDate() == null || events.size() == MAX_EVENTS) {
+            scheduleChangeNotifierPort.daysChangedFrom(savedRule.getStartDate());
+        } else {
+            scheduleChangeNotifierPort.daysChanged(daysTouched(events));
+        }
+
+        // 7. A virtual series is stored only as its rule
+        if (savedRule.isVirtual()) {
+            return events;
+        }
 
-        // 3. Generate DOMAIN MODELS (not entities)
-        List<Event> events = generateEventsFromRule(savedRule, command.getTitle());
+        // 8. Save the first chunk using the PORT
+        List<Event> firstChunk = events.stream()
+                .filter(event -> event.getStartDate().toLocalDate().isBefore(rule.getMaterializedUntil()))
+                .collect(Collectors.toList());
+        List<Event> created = new ArrayList<>(eventRepositoryPort.saveAll(firstChunk));
 
-        // 4. Check for conflicts
-        for (Event event : events) {
-            checkForConflict(event.getStartDate(), event.getEndDate(), null);
+        // 9. Answer with every generated occurrence, as for a virtual series; the unstored ones have no id yet
+        created.addAll(events.subList(firstChunk.size(), events.size()));
+        return created;
+    }
+
+    /**
+     * Claims each series by moving its watermark first, so a second instance running the job skips it,
+     * then stores its occurrences up to the horizon. Occurrences clashing with something scheduled in the
+     * meantime are left out rather than failing the batch, and their dates recorded as EXDATEs of the series.
+     */
+    @Override
+    @Transactional
+    public int materializeAhead(LocalDate horizon, int maxRules) {
+        List<RecurrenceRule> rules = recurrenceRuleRepositoryPort.findRulesToMaterialize(horizon, maxRules);
+        Set<LocalDate> changedDays = new TreeSet<>();
+
+        for (RecurrenceRule rule : rules) {
+            LocalDate from = rule.getMaterializedUntil();
+            LocalDate to = rule.getSeriesEndDate() != null && rule.getSeriesEndDate().isBefore(horizon) ? rule.getSeriesEndDate() : horizon;
+
+            List<Event> occurrences = generateOccurrences(rule, rule.getTitle(), from, to);
+            LocalDate reached = occurrences.size() == MAX_EVENTS
+                    ? occurrences.get(occurrences.size() - 1).getStartDate().toLocalDate().plusDays(1)
+                    : to;
+
+            if (!recurrenceRuleRepositoryPort.advanceMaterializedUntil(rule.getId(), from, reached)) {
+                continue;
+            }
+
+            List<Event> accepted = withoutClashes(rule, occurrences);
+            if (accepted.size() < occurrences.size()) {
+                // The rule must not go on claiming them: exports, rule responses and conflict checks all read it
+                Set<LocalDate> dropped = new TreeSet<>(occurrences.stream().map(event -> event.getStartDate().toLocalDate()).toList());
+                accepted.forEach(event -> dropped.remove(event.getStartDate().toLocalDate()));
+                recurrenceRuleRepositoryPort.addExDates(rule.getId(), dropped);
+                log.warn("Series {} skipped occurrence(s) on {} that clash with existing events; recorded as EXDATEs",
+                        rule.getId(), dropped);
+            }
+            eventRepositoryPort.saveAll(accepted);
+            // Reads expanded the dropped occurrences too until the watermark passed them, so their days change as well
+            changedDays.addAll(daysTouched(occurrences));
         }
 
-        // 5. Save all using the PORT
-        return eventRepositoryPort.saveAll(events);
+        if (!changedDays.isEmpty()) {
+            scheduleChangeNotifierPort.daysChanged(changedDays);
+        }
+        return rules.size();
+    }
+
+    /**
+     * Archived events are only looked up for windows starting before today, so the cutoff may not be later.
+     * Moving them changes no day's content, so no change is notified.
+     */
+    @Override
+    @Transactional
+    public int archiveEndedBefore(LocalDate cutoff, int maxEvents) {
+        if (cutoff.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Archive cutoff must not be after today.");
+        }
+        return eventRepositoryPort.archiveEndedBefore(cutoff.atStartOfDay(), maxEvents);
+    }
+
+    /**
+     * Drops the occurrences overlapping a stored event or another series' occurrence.
+     */
+    private List<Event> withoutClashes(RecurrenceRule rule, List<Event> occurrences) {
+        if (occurrences.isEmpty()) {
+            return occurrences;
+        }
+
+        LocalDate first = occurrences.get(0).getStartDate().toLocalDate();
+        LocalDate last = occurrences.get(occurrences.size() - 1).getStartDate().toLocalDate();
+        List<Event> stored = new ArrayList<>(eventRepositoryPort.findOverlapping(first.atStartOfDay(), last.plusDays(1).atStartOfDay()));
+        stored.addAll(expandVirtualSeries(first, last, stored));
+
+        List<TimeSlot> existing = stored.stream()
+                .filter(event -> event.getRecurrenceRule() == null || !rule.getId().equals(event.getRecurrenceRule().getId()))
+                .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                .collect(Collectors.toList());
+        List<TimeSlot> candidates = occurrences.stream()
+                .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                .collect(Collectors.toList());
+
+        boolean[] clashes = TimeSlotSweep.overlapsAny(candidates, existing);
+        List<Event> accepted = new ArrayList<>();
+        for (int i = 0; i < occurrences.size(); i++) {
+            if (!clashes[i]) accepted.add(occurrences.get(i));
+        }
+        return accepted;
     }
 
     @Override
@@ -86,79 +272,730 @@ public class EventService implements CreateEventUseCase, UpdateEventUseCase, Cre
 
         checkForConflict(command.getStartDate(), command.getEndDate(), command.getId());
 
+        // The days it leaves change as well as the days it moves to
+        Set<LocalDate> changedDays = daysTouched(List.of(existingEvent));
+
         existingEvent.setTitle(command.getTitle());
         existingEvent.setStartDate(command.getStartDate());
         existingEvent.setEndDate(command.getEndDate());
 
-        return eventRepositoryPort.save(existingEvent);
+        Event saved = eventRepositoryPort.save(existingEvent);
+        changedDays.addAll(daysTouched(List.of(saved)));
+        scheduleChangeNotifierPort.daysChanged(changedDays);
+        return saved;
     }
 
+    /**
+     * Validates every item, rejects items overlapping an earlier-starting item of the same batch,
+     * then checks the rest against the store with one range query per chunk and saves them in one batch.
+     * In {@link BulkImportMode#ALL_OR_NOTHING} mode a single rejected item leaves the store untouched.
+     */
+    @Override
+    @Transactional
+    public List<BulkItemResult> createEvents(List<CreateSingleEventCommand> commands, BulkImportMode mode) {
+        BulkItemResult[] results = new BulkItemResult[commands.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            String problem = validationProblem(commands.get(i));
+            if (problem != null) {
+                results[i] = new BulkItemResult(i, BulkItemStatus.INVALID, null, problem);
+            } else {
+                candidates.add(i);
+            }
+        }
 
+        // 1. Intra-batch overlaps: in start order, an item must begin after the last accepted item ends
+        candidates.sort(Comparator.comparing(i -> commands.get(i).getStartDate()));
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            if (!accepted.isEmpty() && commands.get(i).getStartDate().isBefore(commands.get(accepted.get(accepted.size() - 1)).getEndDate())) {
+                results[i] = new BulkItemResult(i, BulkItemStatus.CONFLICT, null,
+                        "Overlaps item " + accepted.get(accepted.size() - 1) + " of the same batch.");
+            } else {
+                accepted.add(i);
+            }
+        }
 
-    private List<Event> generateEventsFromRule(RecurrenceRule rule, String title) {
-        List<Event> events = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        LocalDate endExclusive = rule.getRepeatUntilDate() != null
-                ? rule.getRepeatUntilDate().plusDays(1)
-                : today.plusYears(1);
+        // 2. Against the store: accepted items no longer overlap, so each chunk spans [first start, last end)
+        List<Integer> conflictFree = new ArrayList<>();
+        for (int from = 0; from < accepted.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + BULK_CHUNK_SIZE, accepted.size()));
+            List<TimeSlot> slots = chunk.stream()
+                    .map(i -> new TimeSlot(commands.get(i).getStartDate(), commands.get(i).getEndDate()))
+                    .collect(Collectors.toList());
+
+            boolean[] conflicting = TimeSlotSweep.overlapsAny(slots, storedSlotsBetween(
+                    slots.get(0).getStart(), slots.get(slots.size() - 1).getEnd()));
+            for (int k = 0; k < chunk.size(); k++) {
+                if (conflicting[k]) {
+                    results[chunk.get(k)] = new BulkItemResult(chunk.get(k), BulkItemStatus.CONFLICT, null, "Schedule conflict detected.");
+                } else {
+                    conflictFree.add(chunk.get(k));
+                }
+            }
+        }
 
-        int eventCount = 0;
-        final int MAX_EVENTS = 1000;
+        // 3. One rejection is enough to drop the whole batch in all-or-nothing mode
+        if (mode == BulkImportMode.ALL_OR_NOTHING && conflictFree.size() < commands.size()) {
+            for (int i : conflictFree) {
+                results[i] = new BulkItemResult(i, BulkItemStatus.SKIPPED, null, "Not created because other items were rejected.");
+            }
+            return Arrays.asList(results);
+        }
 
-        for (LocalDate date = today;
-             date.isBefore(endExclusive) && eventCount < MAX_EVENTS;
-             date = date.plusDays(1)) {
+        // 4. Save what is left in a single batch
+        List<Event> events = new ArrayList<>();
+        for (int i : conflictFree) {
+            Event event = new Event();
+            event.setTitle(commands.get(i).getTitle());
+            event.setStartDate(commands.get(i).getStartDate());
+            event.setEndDate(commands.get(i).getEndDate());
+            events.add(event);
+        }
+        if (!events.isEmpty()) {
+            List<Event> saved = eventRepositoryPort.saveAll(events);
+            for (int k = 0; k < saved.size(); k++) {
+                results[conflictFree.get(k)] = new BulkItemResult(conflictFree.get(k), BulkItemStatus.CREATED, saved.get(k), null);
+            }
+            scheduleChangeNotifierPort.daysChanged(daysTouched(saved));
+        }
+        return Arrays.asList(results);
+    }
 
-            if (date.getDayOfWeek() == rule.getDayOfWeek()) {
-                if (rule.getRepeatUntilDate() != null && date.isAfter(rule.getRepeatUntilDate())) {
-                    break;
-                }
+    /**
+     * Single events go through the same sweep as a partial bulk import; the series follow together, with one
+     * candidate-rule query and one single-event query for the whole batch. Every occurrence is checked before
+     * its write, so a rejected item never rolls back the rest of the batch.
+     */
+    @Override
+    @Transactional
+    public List<BulkItemResult> importBatch(List<CalendarImportItem> items) {
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+
+        List<Integer> singleIndexes = new ArrayList<>();
+        List<CreateSingleEventCommand> singles = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getSingleEvent() != null) {
+                singleIndexes.add(i);
+                singles.add(items.get(i).getSingleEvent());
+            }
+        }
+        if (!singles.isEmpty()) {
+            for (BulkItemResult result : createEvents(singles, BulkImportMode.PARTIAL)) {
+                int index = singleIndexes.get(result.getIndex());
+                results[index] = new BulkItemResult(index, result.getStatus(), result.getEvent(), result.getMessage());
+            }
+        }
 
-                LocalDateTime startDateTime = LocalDateTime.of(date, rule.getStartTime());
-                LocalDateTime endDateTime = LocalDateTime.of(date, rule.getEndTime());
+        Map<Integer, PlannedSeries> planned = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateCyclicEventCommand series = items.get(i).getSeries();
+            if (series == null) {
+                continue;
+            }
+            try {
+                planned.put(i, planSeries(series));
+            } catch (IllegalArgumentException ex) {
+                results[i] = new BulkItemResult(i, BulkItemStatus.INVALID, null, ex.getMessage());
+            }
+        }
+        if (!planned.isEmpty()) {
+            importSeries(planned, results);
+        }
+        return Arrays.asList(results);
+    }
 
-                Event event = new Event();
-                event.setTitle(title);
-                event.setStartDate(startDateTime);
-                event.setEndDate(endDateTime);
-                event.setRecurrenceRule(rule);
-                events.add(event);
+    /**
+     * Checks the batch's series in file order against the stored rules, the series accepted before them and
+     * the single events their slots hit, fetching the stored rules and single events once for all of them.
+     */
+    private void importSeries(Map<Integer, PlannedSeries> planned, BulkItemResult[] results) {
+        // 1. One candidate-rule query over the union of the series' days, time windows and spans
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        LocalTime startTime = LocalTime.MAX;
+        LocalTime endTime = LocalTime.MIN;
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        List<TimeSlot> batchSlots = new ArrayList<>();
+        for (PlannedSeries series : planned.values()) {
+            RecurrenceRule rule = series.rule();
+            if (series.events().isEmpty()) {
+                continue;
+            }
+            days.addAll(RecurrenceExpander.possibleDays(rule));
+            if (rule.getStartTime().isBefore(startTime)) startTime = rule.getStartTime();
+            if (rule.getEndTime().isAfter(endTime)) endTime = rule.getEndTime();
+            if (rule.getStartDate().isBefore(from)) from = rule.getStartDate();
+            if (seriesEnd(rule).isAfter(to)) to = seriesEnd(rule);
+            batchSlots.addAll(series.slots());
+        }
+        List<RecurrenceRule> candidateRules = batchSlots.isEmpty()
+                ? List.of()
+                : recurrenceRuleRepositoryPort.findCandidateRules(days, startTime, endTime, from, to);
+
+        // 2. One single-event query over every slot of the batch; the port splits it into as few round trips as it can
+        List<TimeSlot> singleSlots = batchSlots.isEmpty()
+                ? List.of()
+                : eventRepositoryPort.findConflictingSingleEvents(batchSlots).stream()
+                        .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                        .collect(Collectors.toList());
+
+        // 3. In file order, each series must clear the stored rules, the series accepted before it and the single events
+        List<RecurrenceRule> accepted = new ArrayList<>();
+        for (Map.Entry<Integer, PlannedSeries> entry : planned.entrySet()) {
+            int index = entry.getKey();
+            PlannedSeries series = entry.getValue();
+            if (conflictsInBatch(series, candidateRules, accepted, singleSlots)) {
+                results[index] = new BulkItemResult(index, BulkItemStatus.CONFLICT, null, "Schedule conflict detected.");
+                continue;
+            }
 
-                eventCount++;
+            accepted.add(series.rule());
+            List<Event> created = storeSeries(series);
+            results[index] = new BulkItemResult(index, BulkItemStatus.CREATED, created.isEmpty() ? null : created.get(0), null);
+        }
+    }
+
+    private boolean conflictsInBatch(PlannedSeries series, List<RecurrenceRule> candidateRules, List<RecurrenceRule> accepted,
+                                     List<TimeSlot> singleSlots) {
+        if (series.events().isEmpty()) {
+            return false;
+        }
+        for (RecurrenceRule other : candidateRules) {
+            if (RuleOverlap.overlaps(series.rule(), seriesEnd(series.rule()), other)) {
+                return true;
             }
         }
+        for (RecurrenceRule other : accepted) {
+            if (RuleOverlap.overlaps(series.rule(), seriesEnd(series.rule()), other)) {
+                return true;
+            }
+        }
+        return TimeSlotSweep.anyOverlap(series.slots(), singleSlots);
+    }
+
+    // A series without a known end is compared with other series forever, not only over the occurrences generated for it
+    private static LocalDate seriesEnd(RecurrenceRule rule) {
+        return rule.getSeriesEndDate() != null ? rule.getSeriesEndDate() : RecurrenceExpander.NO_END;
+    }
+
+    private String validationProblem(CreateSingleEventCommand command) {
+        if (command.getTitle() == null || command.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        if (command.getStartDate() == null || command.getEndDate() == null) {
+            return "Please define the start and end date of the event";
+        }
+        if (!command.getEndDate().isAfter(command.getStartDate())) {
+            return "Event end date must be after its start date.";
+        }
+        return null;
+    }
+
+    /**
+     * Stored rows and virtual occurrences overlapping [start, end).
+     */
+    private List<TimeSlot> storedSlotsBetween(LocalDateTime start, LocalDateTime end) {
+        List<Event> stored = new ArrayList<>(eventRepositoryPort.findOverlapping(start, end));
+        stored.addAll(expandVirtualSeries(start.toLocalDate(), end.toLocalDate(), stored));
+        return stored.stream()
+                .map(event -> new TimeSlot(event.getStartDate(), event.getEndDate()))
+                .collect(Collectors.toList());
+    }
+
+    private RecurrenceRule toRule(RecurrenceRuleCommand command) {
+        if (command.getStartTime() == null || command.getEndTime() == null
+                || !command.getEndTime().isAfter(command.getStartTime())) {
+            throw new IllegalArgumentException("Recurrence end time must be after its start time.");
+        }
+
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(command.getFrequency());
+        rule.setInterval(command.getInterval() != null ? command.getInterval() : 1);
+        if (command.getByDay() != null && !command.getByDay().isEmpty()) {
+            rule.setByDay(EnumSet.copyOf(command.getByDay()));
+        }
+        rule.setCount(command.getCount());
+        rule.setRepeatUntilDate(command.getRepeatUntilDate());
+        if (command.getExDates() != null) {
+            rule.setExDates(new HashSet<>(command.getExDates()));
+        }
+        rule.setStartDate(command.getStartDate() != null ? command.getStartDate() : LocalDate.now());
+        rule.setStartTime(command.getStartTime());
+        rule.setEndTime(command.getEndTime());
+        return rule;
+    }
+
+    /**
+     * A series ends at UNTIL, or after its last occurrence when COUNT was reached below the cap;
+     * otherwise it never ends, or its end is not known yet.
+     */
+    private LocalDate seriesEndDate(RecurrenceRule rule, int generated, LocalDate generatedUntil) {
+        if (rule.getRepeatUntilDate() != null) return rule.getRepeatUntilDate().plusDays(1);
+        if (rule.getCount() != null && generated < MAX_EVENTS) return generatedUntil;
+        return null;
+    }
+
+    List<Event> generateEventsFromRule(RecurrenceRule rule, String title) {
+        LocalDate endExclusive = RecurrenceExpander.seriesEndExclusive(rule, rule.getStartDate().plusYears(1));
+
+        return generateOccurrences(rule, title, rule.getStartDate(), endExclusive);
+    }
+
+    /**
+     * Builds the occurrences of the rule on the dates in [fromDate, toDateExclusive), capped at MAX_EVENTS.
+     */
+    private List<Event> generateOccurrences(RecurrenceRule rule, String title, LocalDate fromDate, LocalDate toDateExclusive) {
+        List<Event> events = new ArrayList<>();
+        Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(rule, fromDate, toDateExclusive);
+
+        while (dates.hasNext() && events.size() < MAX_EVENTS) {
+            events.add(occurrenceOf(rule, title, dates.next()));
+        }
 
         return events;
     }
 
+    /**
+     * Every calendar day the events overlap; the end is exclusive, so an event ending at midnight stops the day before.
+     */
+    private Set<LocalDate> daysTouched(List<Event> events) {
+        Set<LocalDate> days = new TreeSet<>();
+        for (Event event : events) {
+            LocalDate last = event.getEndDate().isAfter(event.getStartDate())
+                    ? event.getEndDate().minusNanos(1).toLocalDate()
+                    : event.getStartDate().toLocalDate();
+            for (LocalDate day = event.getStartDate().toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private Event occurrenceOf(RecurrenceRule rule, String title, LocalDate date) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setStartDate(LocalDateTime.of(date, rule.getStartTime()));
+        event.setEndDate(LocalDateTime.of(date, rule.getEndTime()));
+        event.setRecurrenceRule(rule);
+        return event;
+    }
+
+    /**
+     * Expands every virtual series, and every materialized series past its watermark, into transient
+     * occurrences (no id) on the dates in [fromDate, toDate].
+     * Dates that already have a materialized override for the same rule in {@code materialized} are skipped.
+     */
+    private List<Event> expandVirtualSeries(LocalDate fromDate, LocalDate toDate, List<Event> materialized) {
+        Set<String> overridden = overriddenOccurrences(materialized);
+
+        List<Event> occurrences = new ArrayList<>();
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(fromDate, toDate)) {
+            addVirtualOccurrences(occurrences, rule, fromDate, toDate.plusDays(1), overridden);
+        }
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findUnmaterializedRulesBetween(fromDate, toDate)) {
+            LocalDate tailFrom = rule.getMaterializedUntil().isAfter(fromDate) ? rule.getMaterializedUntil() : fromDate;
+            addVirtualOccurrences(occurrences, rule, tailFrom, toDate.plusDays(1), overridden);
+        }
+        return occurrences;
+    }
+
+    // Not capped at MAX_EVENTS: reads are bounded by their window or the listing horizon, and must reach its end
+    private void addVirtualOccurrences(List<Event> target, RecurrenceRule rule, LocalDate fromDate, LocalDate toDateExclusive, Set<String> overridden) {
+        Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(rule, fromDate, toDateExclusive);
+        while (dates.hasNext()) {
+            Event occurrence = occurrenceOf(rule, rule.getTitle(), dates.next());
+            if (!overridden.contains(occurrenceKey(occurrence))) {
+                target.add(occurrence);
+            }
+        }
+    }
+
+    private Set<String> overriddenOccurrences(List<Event> materialized) {
+        Set<String> keys = new HashSet<>();
+        for (Event event : materialized) {
+            if (event.getRecurrenceRule() != null) {
+                keys.add(occurrenceKey(event));
+            }
+        }
+        return keys;
+    }
+
+    // A series has at most one occurrence per date, so (rule, date) identifies it
+    private String occurrenceKey(Event event) {
+        return event.getRecurrenceRule().getId() + "|" + event.getStartDate().toLocalDate();
+    }
+
     @Transactional(readOnly = true)
     public List<Event> getEventsForDate(LocalDate date) {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
 
-        return eventRepositoryPort.findByStartDateBetween(startOfDay, endOfDay);
+        List<Event> events = new ArrayList<>(eventRepositoryPort.findByStartDateBetween(startOfDay, endOfDay));
+        events.addAll(expandVirtualSeries(date, date, events));
+        // A stable order keeps the serialized day byte-identical for as long as its ETag is
+        events.sort(Comparator.comparing(Event::getStartDate));
+        return events;
+    }
+
+    /**
+     * Everything overlapping the days [from, to], in start order. Unlike getEventsForDate,
+     * this includes events that begin before the window and run into it.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        DateRanges.validate(from, to);
+
+        List<Event> events = new ArrayList<>(eventRepositoryPort.findOverlapping(from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+        events.addAll(expandVirtualSeries(from, to, events));
+        events.sort(Comparator.comparing(Event::getStartDate));
+        return events;
+    }
+
+    /**
+     * The range split per day; an event spanning midnight is listed under every day it overlaps.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<LocalDate, List<Event>> getEventsByDay(LocalDate from, LocalDate to) {
+        Map<LocalDate, List<Event>> byDay = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            byDay.put(day, new ArrayList<>());
+        }
+
+        for (Event event : getEventsBetween(from, to)) {
+            LocalDate first = event.getStartDate().toLocalDate().isBefore(from) ? from : event.getStartDate().toLocalDate();
+            for (LocalDate day = first; !day.isAfter(to) && day.atStartOfDay().isBefore(event.getEndDate()); day = day.plusDays(1)) {
+                byDay.get(day).add(event);
+            }
+        }
+        return byDay;
     }
 
     @Transactional(readOnly = true)
     public List<Event> findAll() {
-        return eventRepositoryPort.findAll();
+        List<Event> events = new ArrayList<>(eventRepositoryPort.findAll());
+        Set<String> overridden = overriddenOccurrences(events);
+        LocalDate listedUntil = listingHorizon();
+
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findAllVirtualRules()) {
+            addVirtualOccurrences(events, rule, rule.getStartDate(), listingEnd(rule, listedUntil), overridden);
+        }
+        // Past its watermark a materialized series has no rows yet, so its tail is expanded like a virtual series
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findAllUnmaterializedRules()) {
+            addVirtualOccurrences(events, rule, rule.getMaterializedUntil(), listingEnd(rule, listedUntil), overridden);
+        }
+        return events;
     }
 
+    @Override
+    public LocalDate listingHorizon() {
+        return LocalDate.now().plusMonths(listingHorizonMonths);
+    }
+
+    // Every listing of the whole store cuts series without an end at the same date, whenever they started
+    private static LocalDate listingEnd(RecurrenceRule rule, LocalDate listedUntil) {
+        return RecurrenceExpander.seriesEndExclusive(rule, listedUntil);
+    }
 
+    // Rows standing in for an occurrence expanded on read: any row of a virtual series, and the rows of a
+    // materialized series on or after its watermark
+    private static boolean overridesExpandedOccurrence(Event event) {
+        RecurrenceRule rule = event.getRecurrenceRule();
+        return rule != null && (rule.isVirtual() || (rule.getMaterializedUntil() != null
+                && !event.getStartDate().toLocalDate().isBefore(rule.getMaterializedUntil())));
+    }
 
+    /**
+     * Streams stored events first, then expanded occurrences over the same window as {@link #findAll()}.
+     * Only the keys of rows overriding an expanded occurrence are remembered along the way.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Event> consumer) {
+        LocalDate listedUntil = listingHorizon();
+        Set<String> overridden = new HashSet<>();
+        eventRepositoryPort.streamAll(event -> {
+            if (overridesExpandedOccurrence(event)) {
+                overridden.add(occurrenceKey(event));
+            }
+            consumer.accept(event);
+        });
+
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findAllVirtualRules()) {
+            streamOccurrences(rule, rule.getStartDate(), listedUntil, overridden, consumer);
+        }
+        for (RecurrenceRule rule : recurrenceRuleRepositoryPort.findAllUnmaterializedRules()) {
+            streamOccurrences(rule, rule.getMaterializedUntil(), listedUntil, overridden, consumer);
+        }
+    }
+
+    private void streamOccurrences(RecurrenceRule rule, LocalDate fromDate, LocalDate listedUntil, Set<String> overridden,
+                                   Consumer<Event> consumer) {
+        Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(rule, fromDate, listingEnd(rule, listedUntil));
+        while (dates.hasNext()) {
+            Event occurrence = occurrenceOf(rule, rule.getTitle(), dates.next());
+            if (!overridden.contains(occurrenceKey(occurrence))) {
+                consumer.accept(occurrence);
+            }
+        }
+    }
+
+    /**
+     * Each series is handed over as its rule and single events straight from the store's cursor; the rows of a
+     * materialized series are left out, since its rule already describes them.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCalendar(Consumer<RecurrenceRule> series, Consumer<Event> singleEvents) {
+        recurrenceRuleRepositoryPort.streamAll(series);
+        eventRepositoryPort.streamSingleEvents(singleEvents);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventPage findPage(EventCursor after, int limit) {
+        List<Event> rows = eventRepositoryPort.findPageAfter(after, limit);
+        LocalDate listedUntil = listingHorizon();
+
+        // A full page of rows bounds how far virtual series need expanding; a short one means they run to their end
+        LocalDateTime lastRowStart = rows.size() == limit ? rows.get(rows.size() - 1).getStartDate() : null;
+
+        List<Event> page = new ArrayList<>(rows);
+        page.addAll(virtualOccurrencesAfter(after, lastRowStart, limit, rows, listedUntil));
+        page.sort(Comparator.comparing(EventCursor::of));
+
+        if (page.size() < limit) {
+            return new EventPage(page, null, listedUntil);
+        }
+        List<Event> events = new ArrayList<>(page.subList(0, limit));
+        return new EventPage(events, EventCursor.of(events.get(limit - 1)), listedUntil);
+    }
+
+    /**
+     * Up to {@code limit} occurrences per series expanded on read (virtual ones, and materialized ones past their
+     * watermark) after the cursor, on dates up to the last row's date.
+     * Overrides can only sit on dates covered by {@code rows}, except on the two boundary days, which are read here.
+     */
+    private List<Event> virtualOccurrencesAfter(EventCursor after, LocalDateTime lastRowStart, int limit, List<Event> rows,
+                                                LocalDate listedUntil) {
+        LocalDate fromDate = after != null ? after.getStartDate().toLocalDate() : null;
+        LocalDate toDate = lastRowStart != null ? lastRowStart.toLocalDate() : RecurrenceExpander.NO_END;
+
+        List<RecurrenceRule> rules = new ArrayList<>(fromDate != null
+                ? recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(fromDate, toDate)
+                : recurrenceRuleRepositoryPort.findAllVirtualRules());
+        rules.addAll(fromDate != null
+                ? recurrenceRuleRepositoryPort.findUnmaterializedRulesBetween(fromDate, toDate)
+                : recurrenceRuleRepositoryPort.findAllUnmaterializedRules());
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> overridden = overriddenOccurrences(rows);
+        if (fromDate != null) {
+            overridden.addAll(overriddenOccurrences(eventRepositoryPort.findByStartDateBetween(fromDate.atStartOfDay(), fromDate.atTime(LocalTime.MAX))));
+        }
+        if (lastRowStart != null) {
+            overridden.addAll(overriddenOccurrences(eventRepositoryPort.findByStartDateBetween(toDate.atStartOfDay(), toDate.atTime(LocalTime.MAX))));
+        }
+
+        List<Event> occurrences = new ArrayList<>();
+        for (RecurrenceRule rule : rules) {
+            LocalDate ruleStart = rule.isVirtual() ? rule.getStartDate() : rule.getMaterializedUntil();
+            LocalDate ruleFrom = (fromDate != null && fromDate.isAfter(ruleStart)) ? fromDate : ruleStart;
+            LocalDate ruleEnd = listingEnd(rule, listedUntil);
+            LocalDate ruleTo = ruleEnd.isBefore(toDate.plusDays(1)) ? ruleEnd : toDate.plusDays(1);
+
+            Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(rule, ruleFrom, ruleTo);
+            int taken = 0;
+            while (dates.hasNext() && taken < limit) {
+                Event occurrence = occurrenceOf(rule, rule.getTitle(), dates.next());
+
+                if ((after == null || after.compareTo(EventCursor.of(occurrence)) < 0) && !overridden.contains(occurrenceKey(occurrence))) {
+                    occurrences.add(occurrence);
+                    taken++;
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlot> findFreeSlots(LocalDate from, LocalDate to, Duration minDuration, LocalTime workdayStart, LocalTime workdayEnd) {
+        DateRanges.validate(from, to);
+        if (minDuration.isNegative() || minDuration.isZero()) {
+            throw new IllegalArgumentException("Minimum duration must be positive.");
+        }
+
+        return freeIntervals(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), minDuration, workdayStart, workdayEnd);
+    }
+
+    /**
+     * Slots are cut back to back from the start of each free interval, searching at most
+     * {@link DateRanges#MAX_RANGE_DAYS} ahead of {@code after}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlot> findAvailableSlots(LocalDateTime after, Duration length, int count, LocalTime workdayStart, LocalTime workdayEnd) {
+        if (length.isNegative() || length.isZero()) {
+            throw new IllegalArgumentException("Slot length must be positive.");
+        }
+        if (count < 1 || count > MAX_AVAILABLE_SLOTS) {
+            throw new IllegalArgumentException("Count must be between 1 and " + MAX_AVAILABLE_SLOTS + ".");
+        }
+
+        List<TimeSlot> slots = new ArrayList<>();
+        for (TimeSlot free : freeIntervals(after, after.plusDays(DateRanges.MAX_RANGE_DAYS), length, workdayStart, workdayEnd)) {
+            for (LocalDateTime start = free.getStart();
+                 slots.size() < count && !start.plus(length).isAfter(free.getEnd());
+                 start = start.plus(length)) {
+                slots.add(new TimeSlot(start, start.plus(length)));
+            }
+            if (slots.size() == count) {
+                break;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Gaps of at least {@code minDuration} between everything stored in [windowStart, windowEnd),
+     * restricted to the working-hours windows. Busy intervals come from one range query and are
+     * swept once in start order, so the cost is a sort plus a linear pass.
+     */
+    private List<TimeSlot> freeIntervals(LocalDateTime windowStart, LocalDateTime windowEnd, Duration minDuration,
+                                         LocalTime workdayStart, LocalTime workdayEnd) {
+        List<TimeSlot> busy = storedSlotsBetween(windowStart, windowEnd);
+        busy.sort(Comparator.comparing(TimeSlot::getStart));
+
+        List<TimeSlot> free = new ArrayList<>();
+        LocalDateTime busyUntil = LocalDateTime.MIN;
+        int next = 0;
+
+        for (TimeSlot window : workingWindows(windowStart, windowEnd, workdayStart, workdayEnd)) {
+            // Whatever was busy past the previous window may still run into this one
+            LocalDateTime cursor = busyUntil.isAfter(window.getStart()) ? busyUntil : window.getStart();
+
+            while (next < busy.size() && busy.get(next).getStart().isBefore(window.getEnd())) {
+                TimeSlot slot = busy.get(next++);
+                if (slot.getStart().isAfter(cursor)) {
+                    addIfLongEnough(free, cursor, slot.getStart(), minDuration);
+                }
+                if (slot.getEnd().isAfter(cursor)) cursor = slot.getEnd();
+                if (slot.getEnd().isAfter(busyUntil)) busyUntil = slot.getEnd();
+            }
+            addIfLongEnough(free, cursor, window.getEnd(), minDuration);
+        }
+        return free;
+    }
+
+    private void addIfLongEnough(List<TimeSlot> free, LocalDateTime start, LocalDateTime end, Duration minDuration) {
+        if (start.isBefore(end) && Duration.between(start, end).compareTo(minDuration) >= 0) {
+            free.add(new TimeSlot(start, end));
+        }
+    }
+
+    /**
+     * The whole window, or its intersection with the working hours of every day it touches.
+     */
+    private List<TimeSlot> workingWindows(LocalDateTime windowStart, LocalDateTime windowEnd, LocalTime workdayStart, LocalTime workdayEnd) {
+        if (workdayStart == null && workdayEnd == null) {
+            return List.of(new TimeSlot(windowStart, windowEnd));
+        }
+        if (workdayStart == null || workdayEnd == null || !workdayStart.isBefore(workdayEnd)) {
+            throw new IllegalArgumentException("Working hours need a start before their end.");
+        }
+
+        List<TimeSlot> windows = new ArrayList<>();
+        for (LocalDate day = windowStart.toLocalDate(); day.atTime(workdayStart).isBefore(windowEnd); day = day.plusDays(1)) {
+            LocalDateTime start = day.atTime(workdayStart).isBefore(windowStart) ? windowStart : day.atTime(workdayStart);
+            LocalDateTime end = day.atTime(workdayEnd).isAfter(windowEnd) ? windowEnd : day.atTime(workdayEnd);
+            if (start.isBefore(end)) {
+                windows.add(new TimeSlot(start, end));
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Zero-length events are refused outright: the database's range constraint would never see them overlap
+     * anything, while the in-memory checks would, so whether one is accepted would depend on the profile.
+     */
     @Transactional(readOnly = true)
     protected void checkForConflict(LocalDateTime newStart, LocalDateTime newEnd, Long eventIdToExclude) {
+        if (!newEnd.isAfter(newStart)) {
+            throw new IllegalArgumentException("Event end date must be after its start date.");
+        }
+
         List<Event> conflicts;
 
-        if (eventIdToExclude != null) {
+        if (eventRepositoryPort.rejectsOverlappingWrites()) {
+            // The store refuses overlapping rows on save; only virtual series still need checking here
+            conflicts = List.of();
+        } else if (eventIdToExclude != null) {
             conflicts = eventRepositoryPort.findConflictingEventsExcludingId(newStart, newEnd, eventIdToExclude);
         } else {
             // New event check
             conflicts = eventRepositoryPort.findConflictingEvents(newStart, newEnd);
         }
 
-        if (!conflicts.isEmpty()) {
+        if (!conflicts.isEmpty() || overlapsVirtualSeries(List.of(new TimeSlot(newStart, newEnd)))) {
             throw new ScheduleConflictException("Schedule conflict detected.");
         }
     }
+
+    /**
+     * Checks a new series against other series, virtual or materialized, rule against rule over the whole of both,
+     * so neither side's occurrences are expanded or scanned; only the single events are matched against the
+     * candidate slots.
+     */
+    @Transactional(readOnly = true)
+    protected void checkSeriesForConflicts(RecurrenceRule rule, List<TimeSlot> candidateSlots) {
+        if (candidateSlots.isEmpty()) {
+            return;
+        }
+
+        LocalDate end = seriesEnd(rule);
+        List<RecurrenceRule> candidateRules = recurrenceRuleRepositoryPort.findCandidateRules(
+                RecurrenceExpander.possibleDays(rule), rule.getStartTime(), rule.getEndTime(), rule.getStartDate(), end);
+        for (RecurrenceRule stored : candidateRules) {
+            if (RuleOverlap.overlaps(rule, end, stored)) {
+                throw new ScheduleConflictException("Schedule conflict detected.");
+            }
+        }
+
+        // Rows written now are guarded by the store itself when it enforces no-overlap; the rest of the series is not
+        List<TimeSlot> unguardedSlots = rule.isVirtual() || !eventRepositoryPort.rejectsOverlappingWrites()
+                ? candidateSlots
+                : candidateSlots.stream()
+                        .filter(slot -> !slot.getStart().toLocalDate().isBefore(rule.getMaterializedUntil()))
+                        .collect(Collectors.toList());
+
+        if (!unguardedSlots.isEmpty() && !eventRepositoryPort.findConflictingSingleEvents(unguardedSlots).isEmpty()) {
+            throw new ScheduleConflictException("Schedule conflict detected.");
+        }
+    }
+
+    /**
+     * Virtual occurrences are not rows, so the repository cannot see them;
+     * expand the series over the candidates' window and sweep both sets in memory.
+     */
+    private boolean overlapsVirtualSeries(List<TimeSlot> candidateSlots) {
+        LocalDateTime windowStart = candidateSlots.get(0).getStart();
+        LocalDateTime windowEnd = candidateSlots.get(0).getEnd();
+        for (TimeSlot slot : candidateSlots) {
+            if (slot.getStart().isBefore(windowStart)) windowStart = slot.getStart();
+            if (slot.getEnd().isAfter(windowEnd)) windowEnd = slot.getEnd();
+        }
+
+        List<TimeSlot> virtualSlots = expandVirtualSeries(windowStart.toLocalDate(), windowEnd.toLocalDate(), List.of()).stream()
+                .map(occurrence -> new TimeSlot(occurrence.getStartDate(), occurrence.getEndDate()))
+                .collect(Collectors.toList());
+
+        return TimeSlotSweep.anyOverlap(candidateSlots, virtualSlots);
+    }
 }
@@ -0,0 +1,226 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.port.input.BulkCreateEventsUseCase;
+import com.event.eventscheduler.domain.port.input.CreateEventUseCase;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional write-coalescing stage in front of single-event creation.
+ * <p>
+ * Callers are parked on a future while a flusher thread collects requests for up to
+ * {@code scheduler.group-commit.window-ms} or {@code max-batch-size} of them, then creates the whole
+ * batch through {@link BulkCreateEventsUseCase} in partial mode: one transaction, one conflict query
+ * per chunk and one batched insert. Each caller gets its own event or {@link ScheduleConflictException},
+ * exactly as if the requests had run one after another in start order.
+ * <p>
+ * The flusher runs between context start and stop. Stopping lets it finish the batch in progress and flush
+ * what is still queued for up to {@code shutdown-timeout-ms}; only then is it interrupted, and callers whose
+ * requests are still pending fail instead of waiting.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "scheduler.group-commit.enabled", havingValue = "true")
+public class GroupCommitCreateEventService implements CreateEventUseCase, SmartLifecycle {
+
+    private final BulkCreateEventsUseCase bulkCreateEventsUseCase;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long shutdownTimeoutMillis;
+
+    private final BlockingQueue<PendingCreate> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile List<PendingCreate> inFlight = List.of();
+
+    public GroupCommitCreateEventService(BulkCreateEventsUseCase bulkCreateEventsUseCase,
+                                         @Value("${scheduler.group-commit.window-ms:2}") long windowMillis,
+                                         @Value("${scheduler.group-commit.max-batch-size:64}") int maxBatchSize,
+                                         @Value("${scheduler.group-commit.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.bulkCreateEventsUseCase = bulkCreateEventsUseCase;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(maxBatchSize * 16);
+    }
+
+    @Override
+    public Event createSingleEvent(CreateSingleEventCommand command) {
+        PendingCreate pending = new PendingCreate(command, new CompletableFuture<>());
+
+        // A full queue (or a stopping service) pushes back on the caller instead of growing without bound
+        if (!running || !queue.offer(pending)) {
+            return createAlone(command);
+        }
+        // Stopped while offering: take the request back unless the flusher or stop() already owns it
+        if (!running && queue.remove(pending)) {
+            return createAlone(command);
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "group-commit-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Stops accepting new requests and lets the flusher drain the queue, waiting at most the shutdown
+     * timeout before interrupting it. Requests left after that are failed so that their callers return.
+     */
+    @Override
+    public synchronized void stop() {
+        if (flusher == null) {
+            return;
+        }
+        // The flusher sees this within one poll and exits once the queue is empty; a flush under way is not cut short
+        running = false;
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.warn("Group commit flusher did not finish within {} ms; failing its pending requests", shutdownTimeoutMillis);
+            flusher.interrupt();
+        }
+        flusher = null;
+
+        List<PendingCreate> abandoned = new ArrayList<>(inFlight);
+        queue.drainTo(abandoned);
+        for (PendingCreate pending : abandoned) {
+            pending.result().completeExceptionally(new IllegalStateException("Event creation was interrupted by shutdown."));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server has finished its in-flight requests, which may still be parked here.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private Event createAlone(CreateSingleEventCommand command) {
+        return eventOf(bulkCreateEventsUseCase.createEvents(List.of(command), BulkImportMode.PARTIAL).get(0));
+    }
+
+    private void flushLoop() {
+        boolean interrupted = false;
+        while (!interrupted && (running || !queue.isEmpty())) {
+            List<PendingCreate> batch = new ArrayList<>();
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                // stop() gave up waiting: flush what was already taken and leave the rest of the queue to it
+                interrupted = true;
+            }
+
+            if (!batch.isEmpty()) {
+                inFlight = batch;
+                flush(batch);
+                inFlight = List.of();
+            }
+        }
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        try {
+            List<CreateSingleEventCommand> commands = batch.stream().map(PendingCreate::command).toList();
+            List<BulkItemResult> results = bulkCreateEventsUseCase.createEvents(commands, BulkImportMode.PARTIAL);
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            // The batch failed as a whole (e.g. a write from another instance tripped the database
+            // constraint); retry each request on its own so one item cannot fail its neighbours
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(ex);
+                return;
+            }
+            log.debug("Group commit of {} events failed, retrying one by one", batch.size(), ex);
+            for (PendingCreate pending : batch) {
+                try {
+                    complete(pending, bulkCreateEventsUseCase.createEvents(List.of(pending.command()), BulkImportMode.PARTIAL).get(0));
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        } finally {
+            for (PendingCreate pending : batch) {
+                pending.result().completeExceptionally(new IllegalStateException("Event creation was not completed."));
+            }
+        }
+    }
+
+    private static void complete(PendingCreate pending, BulkItemResult result) {
+        try {
+            pending.result().complete(eventOf(result));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private static Event eventOf(BulkItemResult result) {
+        return switch (result.getStatus()) {
+            case CREATED -> result.getEvent();
+            case CONFLICT -> throw new ScheduleConflictException("Schedule conflict detected.");
+            case INVALID -> throw new IllegalArgumentException(result.getMessage());
+            case SKIPPED -> throw new IllegalStateException("Event was not created.");
+        };
+    }
+
+    private record PendingCreate(CreateSingleEventCommand command, CompletableFuture<Event> result) {
+    }
+}
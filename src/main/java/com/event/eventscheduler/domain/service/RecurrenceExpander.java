@@ -0,0 +1,254 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Expands a {@link RecurrenceRule} into its occurrence dates.
+ * <p>
+ * The rule is walked period by period (a day, week, month or year times INTERVAL) and each
+ * step jumps straight to the next matching BYDAY, so the cost is proportional to the number
+ * of occurrences rather than the number of calendar days. Rules without COUNT jump directly
+ * to the period containing the window start; COUNT rules are walked from DTSTART because
+ * earlier occurrences count towards the limit.
+ */
+public final class RecurrenceExpander {
+
+    // Upper bound for series that are only limited by COUNT
+    public static final LocalDate NO_END = LocalDate.of(9999, 12, 31);
+
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * Lazily iterates the occurrence dates of the rule in [fromDate, toDateExclusive),
+     * in ascending order, with EXDATEs removed.
+     */
+    public static Iterator<LocalDate> occurrenceDates(RecurrenceRule rule, LocalDate fromDate, LocalDate toDateExclusive) {
+        validate(rule);
+        return new OccurrenceIterator(rule, fromDate, toDateExclusive, true);
+    }
+
+    /**
+     * The first date the rule generates before EXDATEs are removed, which is what RFC 5545 takes as
+     * DTSTART; null when it generates none.
+     */
+    public static LocalDate firstDate(RecurrenceRule rule) {
+        validate(rule);
+        Iterator<LocalDate> dates = new OccurrenceIterator(rule, rule.getStartDate(), NO_END, false);
+        return dates.hasNext() ? dates.next() : null;
+    }
+
+    /**
+     * Returns true if the rule has an occurrence on exactly this date.
+     */
+    public static boolean occursOn(RecurrenceRule rule, LocalDate date) {
+        Iterator<LocalDate> dates = occurrenceDates(rule, date, date.plusDays(1));
+        return dates.hasNext();
+    }
+
+    /**
+     * Returns the end of the window a series has to be expanded over: the day after UNTIL,
+     * {@link #NO_END} for COUNT rules, or {@code openEndedHorizon} for never-ending series.
+     */
+    public static LocalDate seriesEndExclusive(RecurrenceRule rule, LocalDate openEndedHorizon) {
+        if (rule.getRepeatUntilDate() != null) return rule.getRepeatUntilDate().plusDays(1);
+        if (rule.getCount() != null) return NO_END;
+        return openEndedHorizon;
+    }
+
+    /**
+     * The weekdays the series can fall on: BYDAY when given, DTSTART's weekday for a plain weekly
+     * series, and every day otherwise.
+     */
+    public static Set<DayOfWeek> possibleDays(RecurrenceRule rule) {
+        if (!rule.getByDay().isEmpty()) return EnumSet.copyOf(rule.getByDay());
+        if (rule.getFrequency() == Frequency.WEEKLY) return EnumSet.of(rule.getStartDate().getDayOfWeek());
+        return EnumSet.allOf(DayOfWeek.class);
+    }
+
+    public static void validate(RecurrenceRule rule) {
+        if (rule.getFrequency() == null) {
+            throw new IllegalArgumentException("Recurrence frequency is required.");
+        }
+        if (rule.getStartDate() == null) {
+            throw new IllegalArgumentException("Recurrence start date is required.");
+        }
+        if (rule.getInterval() < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be at least 1.");
+        }
+        if (rule.getCount() != null && rule.getCount() < 1) {
+            throw new IllegalArgumentException("Recurrence count must be at least 1.");
+        }
+        if (rule.getCount() != null && rule.getRepeatUntilDate() != null) {
+            throw new IllegalArgumentException("A recurrence can have either a count or an until date, not both.");
+        }
+    }
+
+    private static final class OccurrenceIterator implements Iterator<LocalDate> {
+
+        private final RecurrenceRule rule;
+        private final LocalDate fromDate;
+        private final LocalDate endExclusive;
+        private final Set<DayOfWeek> byDay;
+        private final boolean applyExDates;
+
+        private long period;                // index of the current period, counted from DTSTART's period
+        private LocalDate periodStart;
+        private LocalDate periodEnd;        // exclusive
+        private LocalDate cursor;           // next date to look at inside the current period
+        private int generated;              // occurrences produced so far, for COUNT
+        private LocalDate next;
+
+        OccurrenceIterator(RecurrenceRule rule, LocalDate fromDate, LocalDate toDateExclusive, boolean applyExDates) {
+            this.rule = rule;
+            this.fromDate = fromDate;
+            this.byDay = rule.getByDay();
+            this.applyExDates = applyExDates;
+
+            LocalDate end = toDateExclusive;
+            if (rule.getRepeatUntilDate() != null && rule.getRepeatUntilDate().isBefore(end)) {
+                end = rule.getRepeatUntilDate().plusDays(1);
+            }
+            this.endExclusive = end;
+
+            // Without COUNT nothing before the window matters, so start at the period holding fromDate
+            this.period = rule.getCount() == null ? periodContaining(fromDate) : 0;
+            openPeriod();
+            this.next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDate current = next;
+            next = advance();
+            return current;
+        }
+
+        private LocalDate advance() {
+            while (periodStart.isBefore(endExclusive)) {
+                LocalDate candidate = nextCandidateInPeriod();
+
+                if (candidate == null) {
+                    period++;
+                    openPeriod();
+                    continue;
+                }
+                cursor = candidate.plusDays(1);
+
+                // Dates of the first period that fall before DTSTART are not part of the set
+                if (candidate.isBefore(rule.getStartDate())) continue;
+                if (!candidate.isBefore(endExclusive)) return null;
+
+                if (rule.getCount() != null) {
+                    if (generated >= rule.getCount()) return null;
+                    generated++;
+                }
+
+                // COUNT includes excluded dates (RFC 5545), so EXDATE is applied after counting
+                if (candidate.isBefore(fromDate) || (applyExDates && rule.getExDates().contains(candidate))) continue;
+                return candidate;
+            }
+            return null;
+        }
+
+        private LocalDate nextCandidateInPeriod() {
+            if (!cursor.isBefore(periodEnd)) return null;
+
+            if (byDay.isEmpty()) {
+                LocalDate single = defaultDateInPeriod();
+                return single != null && !single.isBefore(cursor) ? single : null;
+            }
+
+            // Jump straight to the closest matching weekday instead of testing every date
+            LocalDate closest = null;
+            for (DayOfWeek day : byDay) {
+                LocalDate date = cursor.with(TemporalAdjusters.nextOrSame(day));
+                if (closest == null || date.isBefore(closest)) closest = date;
+            }
+            return closest.isBefore(periodEnd) ? closest : null;
+        }
+
+        /**
+         * Without BYDAY every period yields the date matching DTSTART, if the period has one.
+         */
+        private LocalDate defaultDateInPeriod() {
+            LocalDate start = rule.getStartDate();
+            return switch (rule.getFrequency()) {
+                case DAILY -> periodStart;
+                case WEEKLY -> periodStart.with(TemporalAdjusters.nextOrSame(start.getDayOfWeek()));
+                case MONTHLY -> {
+                    YearMonth month = YearMonth.from(periodStart);
+                    yield month.isValidDay(start.getDayOfMonth()) ? month.atDay(start.getDayOfMonth()) : null;
+                }
+                case YEARLY -> {
+                    MonthDay monthDay = MonthDay.from(start);
+                    yield monthDay.isValidYear(periodStart.getYear()) ? monthDay.atYear(periodStart.getYear()) : null;
+                }
+            };
+        }
+
+        private void openPeriod() {
+            LocalDate anchor = periodAnchor();
+            long step = period * rule.getInterval();
+            periodStart = switch (rule.getFrequency()) {
+                case DAILY -> anchor.plusDays(step);
+                case WEEKLY -> anchor.plusWeeks(step);
+                case MONTHLY -> anchor.plusMonths(step);
+                case YEARLY -> anchor.plusYears(step);
+            };
+            periodEnd = switch (rule.getFrequency()) {
+                case DAILY -> periodStart.plusDays(1);
+                case WEEKLY -> periodStart.plusWeeks(1);
+                case MONTHLY -> periodStart.plusMonths(1);
+                case YEARLY -> periodStart.plusYears(1);
+            };
+            cursor = periodStart;
+        }
+
+        /**
+         * The start of DTSTART's period: the day itself, its week (WKST=MO), month or year.
+         */
+        private LocalDate periodAnchor() {
+            LocalDate start = rule.getStartDate();
+            return switch (rule.getFrequency()) {
+                case DAILY -> start;
+                case WEEKLY -> start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTHLY -> start.withDayOfMonth(1);
+                case YEARLY -> start.withDayOfYear(1);
+            };
+        }
+
+        private long periodContaining(LocalDate date) {
+            LocalDate anchor = periodAnchor();
+            if (!date.isAfter(anchor)) return 0;
+
+            long units = switch (rule.getFrequency()) {
+                case DAILY -> ChronoUnit.DAYS.between(anchor, date);
+                case WEEKLY -> ChronoUnit.WEEKS.between(anchor, date);
+                case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(anchor), YearMonth.from(date));
+                case YEARLY -> date.getYear() - anchor.getYear();
+            };
+            return units / rule.getInterval();
+        }
+    }
+}
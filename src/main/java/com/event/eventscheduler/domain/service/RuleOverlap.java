@@ -0,0 +1,141 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Decides whether two recurrence rules share an occurrence by comparing the rules themselves
+ * instead of expanding and sweeping their occurrences.
+ */
+public final class RuleOverlap {
+
+    // 400 Gregorian years, after which dates fall on the same weekdays again
+    private static final long GREGORIAN_CYCLE_DAYS = 146_097;
+
+    private RuleOverlap() {
+    }
+
+    /**
+     * Returns true if {@code candidate}, taken up to {@code candidateEnd} (exclusive, {@link RecurrenceExpander#NO_END}
+     * when it never ends), and {@code stored}, taken up to its {@link RecurrenceRule#getSeriesEndDate() series end},
+     * overlap on some date.
+     * <p>
+     * Two dense rules (every matching weekday occurs) are decided in O(1) from their time windows, spans and
+     * weekdays; otherwise only the sparser rule's dates in the shared span are walked, for at most one common
+     * period of the two rules.
+     */
+    public static boolean overlaps(RecurrenceRule candidate, LocalDate candidateEnd, RecurrenceRule stored) {
+        if (!candidate.getStartTime().isBefore(stored.getEndTime()) || !stored.getStartTime().isBefore(candidate.getEndTime())) {
+            return false;
+        }
+
+        LocalDate from = max(candidate.getStartDate(), stored.getStartDate());
+        LocalDate to = min(candidateEnd, endOf(stored));
+        if (!from.isBefore(to)) {
+            return false;
+        }
+
+        Set<DayOfWeek> sharedDays = EnumSet.copyOf(RecurrenceExpander.possibleDays(candidate));
+        sharedDays.retainAll(RecurrenceExpander.possibleDays(stored));
+        if (sharedDays.isEmpty()) {
+            return false;
+        }
+
+        boolean candidateDense = isDense(candidate, candidateEnd.isBefore(RecurrenceExpander.NO_END));
+        boolean storedDense = isDense(stored, stored.getSeriesEndDate() != null);
+
+        if (candidateDense && storedDense) {
+            return ChronoUnit.DAYS.between(from, to) >= 7 || anyWeekdayBetween(from, to, sharedDays);
+        }
+
+        RecurrenceRule walked = candidateDense ? stored : candidate;
+        RecurrenceRule other = candidateDense ? candidate : stored;
+        boolean otherDense = candidateDense || storedDense;
+
+        Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(walked, from, walkEnd(candidate, stored, from, to));
+        while (dates.hasNext()) {
+            LocalDate date = dates.next();
+            if (otherDense ? sharedDays.contains(date.getDayOfWeek()) : RecurrenceExpander.occursOn(other, date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A rule is dense when it occurs on every one of its possible weekdays between its start and its end:
+     * a daily or weekly rule with interval 1, no EXDATEs, and a known end if it is limited by COUNT.
+     */
+    private static boolean isDense(RecurrenceRule rule, boolean endKnown) {
+        return rule.getInterval() == 1
+                && (rule.getFrequency() == Frequency.DAILY || rule.getFrequency() == Frequency.WEEKLY)
+                && rule.getExDates().isEmpty()
+                && (rule.getCount() == null || endKnown);
+    }
+
+    /**
+     * Past their EXDATEs, both rules repeat their dates every common period: a day or a week times INTERVAL, or
+     * 400 Gregorian years (a whole number of weeks) times INTERVAL for monthly and yearly rules. A COUNT only
+     * removes dates from that pattern, so nothing that does not coincide within one such period coincides later.
+     */
+    private static LocalDate walkEnd(RecurrenceRule a, RecurrenceRule b, LocalDate from, LocalDate to) {
+        LocalDate periodic = max(from, max(afterExDates(a), afterExDates(b)));
+        long period = lcm(periodDays(a), periodDays(b));
+        if (period >= ChronoUnit.DAYS.between(periodic, to)) {
+            return to;
+        }
+        return periodic.plusDays(period);
+    }
+
+    private static LocalDate afterExDates(RecurrenceRule rule) {
+        return rule.getExDates().stream().max(LocalDate::compareTo).map(date -> date.plusDays(1)).orElse(rule.getStartDate());
+    }
+
+    private static long periodDays(RecurrenceRule rule) {
+        return switch (rule.getFrequency()) {
+            case DAILY -> rule.getInterval();
+            case WEEKLY -> 7L * rule.getInterval();
+            case MONTHLY, YEARLY -> GREGORIAN_CYCLE_DAYS * rule.getInterval();
+        };
+    }
+
+    private static long lcm(long a, long b) {
+        long x = a;
+        long y = b;
+        while (y != 0) {
+            long r = x % y;
+            x = y;
+            y = r;
+        }
+        // Saturates instead of overflowing; any period past NO_END means walking the whole span
+        return a / x > Long.MAX_VALUE / b ? Long.MAX_VALUE : a / x * b;
+    }
+
+    private static LocalDate endOf(RecurrenceRule rule) {
+        return rule.getSeriesEndDate() != null
+                ? rule.getSeriesEndDate()
+                : RecurrenceExpander.seriesEndExclusive(rule, RecurrenceExpander.NO_END);
+    }
+
+    private static boolean anyWeekdayBetween(LocalDate from, LocalDate toExclusive, Set<DayOfWeek> days) {
+        for (LocalDate day = from; day.isBefore(toExclusive); day = day.plusDays(1)) {
+            if (days.contains(day.getDayOfWeek())) return true;
+        }
+        return false;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
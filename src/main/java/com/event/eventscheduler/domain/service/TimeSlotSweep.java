@@ -0,0 +1,94 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.TimeSlot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sort-and-sweep helpers for comparing sets of intervals in memory.
+ */
+public final class TimeSlotSweep {
+
+    private static final Comparator<TimeSlot> BY_START = Comparator.comparing(TimeSlot::getStart);
+
+    private TimeSlotSweep() {
+    }
+
+    /**
+     * Returns true if any slot of {@code left} overlaps any slot of {@code right}.
+     * Runs in O((n + m) log(n + m)) instead of comparing every pair.
+     */
+    public static boolean anyOverlap(List<TimeSlot> left, List<TimeSlot> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return false;
+        }
+
+        List<TimeSlot> a = new ArrayList<>(left);
+        List<TimeSlot> b = new ArrayList<>(right);
+        a.sort(BY_START);
+        b.sort(BY_START);
+
+        // Latest end seen so far on each side; a slot overlaps the other side
+        // if one of the other side's earlier-starting slots is still running
+        LocalDateTime maxEndA = LocalDateTime.MIN;
+        LocalDateTime maxEndB = LocalDateTime.MIN;
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size() && j < b.size()) {
+            TimeSlot nextA = a.get(i);
+            TimeSlot nextB = b.get(j);
+
+            if (!nextA.getStart().isAfter(nextB.getStart())) {
+                if (maxEndB.isAfter(nextA.getStart())) return true;
+                if (nextA.getEnd().isAfter(maxEndA)) maxEndA = nextA.getEnd();
+                i++;
+            } else {
+                if (maxEndA.isAfter(nextB.getStart())) return true;
+                if (nextB.getEnd().isAfter(maxEndB)) maxEndB = nextB.getEnd();
+                j++;
+            }
+        }
+
+        // The first remaining slot of the unfinished side is the only one that can still hit
+        if (i < a.size()) return maxEndB.isAfter(a.get(i).getStart());
+        return maxEndA.isAfter(b.get(j).getStart());
+    }
+
+    /**
+     * For each slot of {@code candidates}, whether it overlaps any slot of {@code existing}.
+     * The flags follow the order of {@code candidates}; the sweep itself runs in start order.
+     */
+    public static boolean[] overlapsAny(List<TimeSlot> candidates, List<TimeSlot> existing) {
+        boolean[] overlaps = new boolean[candidates.size()];
+        if (candidates.isEmpty() || existing.isEmpty()) {
+            return overlaps;
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(i -> candidates.get(i).getStart()));
+        List<TimeSlot> b = new ArrayList<>(existing);
+        b.sort(BY_START);
+
+        // A candidate is hit either by an existing slot that started no later and is still running,
+        // or by the first existing slot starting after it, if that one starts before the candidate ends
+        LocalDateTime maxEnd = LocalDateTime.MIN;
+        int j = 0;
+        for (int i : order) {
+            TimeSlot candidate = candidates.get(i);
+            while (j < b.size() && !b.get(j).getStart().isAfter(candidate.getStart())) {
+                if (b.get(j).getEnd().isAfter(maxEnd)) maxEnd = b.get(j).getEnd();
+                j++;
+            }
+            overlaps[i] = maxEnd.isAfter(candidate.getStart())
+                    || (j < b.size() && b.get(j).getStart().isBefore(candidate.getEnd()));
+        }
+        return overlaps;
+    }
+}
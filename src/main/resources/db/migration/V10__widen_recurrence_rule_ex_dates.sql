@@ -0,0 +1,3 @@
+-- EXDATEs are stored as one comma separated list; at 11 characters a date, VARCHAR(4000) held about 360 of them,
+-- and a VEVENT with more failed on insert and took its whole import batch down. TEXT has no such limit.
+ALTER TABLE recurrence_rule ALTER COLUMN ex_dates TYPE TEXT;
@@ -0,0 +1,29 @@
+-- Baseline schema for the Postgres profiles (prod, test).
+-- Databases created by ddl-auto before migrations existed are not adopted;
+-- see "Upgrading a pre-Flyway database" in the README.
+
+CREATE SEQUENCE recurrence_rule_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE recurrence_rule (
+    id                BIGINT       NOT NULL PRIMARY KEY,
+    frequency         VARCHAR(16)  NOT NULL,
+    interval_length   INTEGER      NOT NULL DEFAULT 1,
+    by_day            VARCHAR(64),
+    occurrence_count  INTEGER,
+    repeat_until_date DATE,
+    ex_dates          VARCHAR(4000),
+    start_date        DATE,
+    start_time        TIME(6),
+    end_time          TIME(6),
+    title             VARCHAR(255),
+    is_virtual        BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE event (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    title      VARCHAR(255) NOT NULL,
+    start_date TIMESTAMP(6) NOT NULL,
+    end_date   TIMESTAMP(6) NOT NULL,
+    rule_id    BIGINT REFERENCES recurrence_rule (id)
+);
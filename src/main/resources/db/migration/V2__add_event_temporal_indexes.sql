@@ -0,0 +1,16 @@
+-- Per-day lookup (start_date BETWEEN ...) and ordered list reads.
+-- Covers every column a read returns, so they can be served by an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_event_start_date_end_date
+    ON event (start_date, end_date) INCLUDE (id, title, rule_id);
+
+-- Overlap predicate "end_date > :start AND start_date < :end": new events are almost always
+-- in the future, so leading with end_date keeps the range scan to upcoming events only.
+CREATE INDEX IF NOT EXISTS idx_event_end_date_start_date
+    ON event (end_date, start_date) INCLUDE (id);
+
+CREATE INDEX IF NOT EXISTS idx_event_rule_id
+    ON event (rule_id);
+
+-- Virtual series lookup by active span
+CREATE INDEX IF NOT EXISTS idx_recurrence_rule_virtual_span
+    ON recurrence_rule (start_date, repeat_until_date) WHERE is_virtual;
@@ -0,0 +1,9 @@
+-- The database itself rejects overlapping events, so concurrent inserts cannot both pass
+-- a read-then-write check. Half-open ranges match the application's overlap rule:
+-- an event ending at 10:00 does not clash with one starting at 10:00.
+ALTER TABLE event
+    ADD COLUMN IF NOT EXISTS period TSRANGE
+        GENERATED ALWAYS AS (tsrange(start_date, end_date, '[)')) STORED;
+
+ALTER TABLE event
+    ADD CONSTRAINT event_no_overlap EXCLUDE USING gist (period WITH &&);
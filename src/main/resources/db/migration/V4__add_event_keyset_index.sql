@@ -0,0 +1,2 @@
+-- Serves keyset paging of /api/events/all: WHERE (start_date, id) > (?, ?) ORDER BY start_date, id
+CREATE INDEX IF NOT EXISTS idx_event_start_date_id ON event (start_date, id);
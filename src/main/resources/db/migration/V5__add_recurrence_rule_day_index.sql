@@ -0,0 +1,31 @@
+-- Lets a new series find the rules it can clash with without expanding anyone's occurrences:
+-- series_end_date bounds each series, recurrence_rule_day lists the weekdays it can fall on.
+
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS series_end_date DATE;
+
+CREATE TABLE IF NOT EXISTS recurrence_rule_day (
+    rule_id     BIGINT      NOT NULL REFERENCES recurrence_rule (id),
+    day_of_week VARCHAR(9)  NOT NULL,
+    PRIMARY KEY (day_of_week, rule_id)
+);
+
+-- BYDAY is stored as a comma-separated list of day names; without it a weekly series keeps DTSTART's weekday
+INSERT INTO recurrence_rule_day (rule_id, day_of_week)
+SELECT r.id, d.day
+FROM recurrence_rule r
+CROSS JOIN (VALUES ('MONDAY'), ('TUESDAY'), ('WEDNESDAY'), ('THURSDAY'), ('FRIDAY'), ('SATURDAY'), ('SUNDAY')) AS d (day)
+WHERE CASE
+          WHEN r.by_day IS NOT NULL AND r.by_day <> '' THEN position(d.day IN r.by_day) > 0
+          WHEN r.frequency = 'WEEKLY' THEN d.day = to_char(r.start_date, 'FMDAY')
+          ELSE TRUE
+      END
+ON CONFLICT DO NOTHING;
+
+-- Materialized series end after their last stored row; virtual ones at UNTIL, or never
+UPDATE recurrence_rule r
+SET series_end_date = COALESCE((SELECT MAX(e.start_date)::date + 1 FROM event e WHERE e.rule_id = r.id), r.start_date)
+WHERE NOT r.is_virtual AND r.series_end_date IS NULL;
+
+UPDATE recurrence_rule r
+SET series_end_date = r.repeat_until_date + 1
+WHERE r.is_virtual AND r.repeat_until_date IS NOT NULL AND r.series_end_date IS NULL;
@@ -0,0 +1,23 @@
+-- Materialized series are now stored a rolling horizon ahead and extended by a background job.
+-- materialized_until is the watermark: every occurrence before it is a row, later ones are expanded on read.
+
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS materialized_until DATE;
+
+-- Existing materialized series are stored up to where V5 found their last row
+UPDATE recurrence_rule
+SET materialized_until = series_end_date
+WHERE NOT is_virtual AND materialized_until IS NULL;
+
+-- series_end_date now means the logical end, so series cut at the old one-year / 1000-row limit go on
+UPDATE recurrence_rule r
+SET series_end_date = CASE
+        WHEN r.repeat_until_date IS NOT NULL THEN r.repeat_until_date + 1
+        WHEN r.occurrence_count IS NULL THEN NULL
+        WHEN (SELECT COUNT(*) FROM event e WHERE e.rule_id = r.id) >= 1000 THEN NULL
+        ELSE r.series_end_date
+    END
+WHERE NOT r.is_virtual;
+
+-- The job looks for the series furthest behind
+CREATE INDEX IF NOT EXISTS idx_recurrence_rule_materialized_until
+    ON recurrence_rule (materialized_until) WHERE NOT is_virtual;
@@ -0,0 +1,122 @@
+-- event becomes range-partitioned by start_date month, so per-day reads touch one partition and
+-- every partition's indexes stay small. Rows outside every monthly partition land in event_default.
+
+ALTER TABLE event RENAME TO event_unpartitioned;
+ALTER TABLE event_unpartitioned DROP CONSTRAINT IF EXISTS event_no_overlap;
+ALTER TABLE event_unpartitioned DROP CONSTRAINT IF EXISTS event_pkey;
+
+-- The partition key has to be part of the primary key; ids still come from event_seq
+CREATE TABLE event (
+    id         BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    start_date TIMESTAMP(6) NOT NULL,
+    end_date   TIMESTAMP(6) NOT NULL,
+    rule_id    BIGINT REFERENCES recurrence_rule (id),
+    period     TSRANGE GENERATED ALWAYS AS (tsrange(start_date, end_date, '[)')) STORED,
+    PRIMARY KEY (id, start_date)
+) PARTITION BY RANGE (start_date);
+
+CREATE TABLE event_default PARTITION OF event DEFAULT;
+
+-- Postgres cannot put an exclusion constraint on a partitioned table, so each partition gets its own
+ALTER TABLE event_default ADD CONSTRAINT event_default_no_overlap EXCLUDE USING gist (period WITH &&);
+
+-- Creates the partition for the month holding month_start, moving any rows the default partition
+-- already holds for it. Returns false when it exists.
+CREATE OR REPLACE FUNCTION create_event_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month_start)::date;
+    next_day  DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    part_name TEXT := 'event_' || to_char(first_day, 'YYYY_MM');
+    columns   TEXT;
+BEGIN
+    IF to_regclass(part_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT string_agg(quote_ident(column_name), ', ' ORDER BY ordinal_position) INTO columns
+    FROM information_schema.columns
+    WHERE table_schema = current_schema() AND table_name = 'event' AND is_generated = 'NEVER';
+
+    EXECUTE format('CREATE TEMP TABLE event_partition_move ON COMMIT DROP AS '
+                       || 'SELECT %s FROM event_default WHERE start_date >= %L AND start_date < %L',
+                   columns, first_day, next_day);
+    EXECUTE format('DELETE FROM event_default WHERE start_date >= %L AND start_date < %L', first_day, next_day);
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF event FOR VALUES FROM (%L) TO (%L)', part_name, first_day, next_day);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist (period WITH &&)',
+                   part_name, part_name || '_no_overlap');
+
+    EXECUTE format('INSERT INTO event (%s) SELECT %s FROM event_partition_move', columns, columns);
+    DROP TABLE event_partition_move;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Makes sure the partitions for `months` months starting at from_month exist; returns how many were created
+CREATE OR REPLACE FUNCTION ensure_event_partitions(from_month DATE, months INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    created INTEGER := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        IF create_event_partition((date_trunc('month', from_month) + make_interval(months => i))::date) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month that already has events, plus the current month and the next twelve
+SELECT create_event_partition(month::date)
+FROM (SELECT DISTINCT date_trunc('month', start_date) AS month FROM event_unpartitioned) existing;
+SELECT ensure_event_partitions(CURRENT_DATE, 13);
+
+INSERT INTO event (id, title, start_date, end_date, rule_id)
+SELECT id, title, start_date, end_date, rule_id FROM event_unpartitioned;
+
+DROP TABLE event_unpartitioned;
+
+-- Created on the parent, so every partition, present or future, gets them
+CREATE INDEX IF NOT EXISTS idx_event_start_date_end_date
+    ON event (start_date, end_date) INCLUDE (id, title, rule_id);
+CREATE INDEX IF NOT EXISTS idx_event_end_date_start_date
+    ON event (end_date, start_date) INCLUDE (id);
+CREATE INDEX IF NOT EXISTS idx_event_rule_id
+    ON event (rule_id);
+CREATE INDEX IF NOT EXISTS idx_event_start_date_id
+    ON event (start_date, id);
+
+-- Within a partition the exclusion constraint rejects overlaps. Across partitions, one of the two
+-- events must run past the end of its month, so only those rows are looked up here. An event crossing
+-- months takes every month it spans exclusively, any other event its own month in shared mode, so
+-- concurrent writers that could clash are serialized and the second one sees the first.
+CREATE OR REPLACE FUNCTION event_check_cross_partition_overlap() RETURNS TRIGGER AS $$
+DECLARE
+    first_month TIMESTAMP := date_trunc('month', NEW.start_date);
+    last_month  TIMESTAMP := date_trunc('month', GREATEST(NEW.start_date, NEW.end_date - INTERVAL '1 microsecond'));
+    locked      TIMESTAMP;
+BEGIN
+    IF last_month > first_month THEN
+        FOR locked IN SELECT generate_series(first_month, last_month, INTERVAL '1 month') LOOP
+            PERFORM pg_advisory_xact_lock(hashtext('event_month'),
+                                          (extract(YEAR FROM locked) * 12 + extract(MONTH FROM locked))::INTEGER);
+        END LOOP;
+    ELSE
+        PERFORM pg_advisory_xact_lock_shared(hashtext('event_month'),
+                                             (extract(YEAR FROM first_month) * 12 + extract(MONTH FROM first_month))::INTEGER);
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM event e
+               WHERE e.start_date < NEW.end_date AND e.end_date > NEW.start_date
+                 AND (e.start_date < first_month OR e.start_date >= first_month + INTERVAL '1 month')) THEN
+        RAISE EXCEPTION 'conflicting key value violates exclusion constraint "event_no_overlap"'
+            USING ERRCODE = 'exclusion_violation', CONSTRAINT = 'event_no_overlap';
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER event_cross_partition_overlap
+    AFTER INSERT OR UPDATE OF start_date, end_date ON event
+    FOR EACH ROW EXECUTE FUNCTION event_check_cross_partition_overlap();
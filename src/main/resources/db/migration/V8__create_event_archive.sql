@@ -0,0 +1,15 @@
+-- Cold storage for events that ended long ago. Rows keep their ids and rules; the archival job moves
+-- them out of the hot event table in batches, and past-dated reads look here as well.
+CREATE TABLE IF NOT EXISTS event_archive (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    title      VARCHAR(255) NOT NULL,
+    start_date TIMESTAMP(6) NOT NULL,
+    end_date   TIMESTAMP(6) NOT NULL,
+    rule_id    BIGINT REFERENCES recurrence_rule (id)
+);
+
+-- The same overlap lookups as on event: per-day reads by start, conflict checks by end
+CREATE INDEX IF NOT EXISTS idx_event_archive_start_date_end_date
+    ON event_archive (start_date, end_date) INCLUDE (id, title, rule_id);
+CREATE INDEX IF NOT EXISTS idx_event_archive_end_date_start_date
+    ON event_archive (end_date, start_date) INCLUDE (id);
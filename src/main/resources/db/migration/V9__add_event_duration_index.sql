@@ -0,0 +1,3 @@
+-- Overlap reads bound start_date from below by the longest stored event; this index answers that
+-- maximum with one probe per partition instead of a scan of the table.
+CREATE INDEX IF NOT EXISTS idx_event_duration ON event ((end_date - start_date));
@@ -1,17 +1,32 @@
 package com.event.eventscheduler.adapter.controller;
 
+import com.event.eventscheduler.adapter.input.rest.cache.DayResponseCache;
 import com.event.eventscheduler.adapter.input.rest.controller.EventController;
 import com.event.eventscheduler.adapter.input.rest.dto.request.EventUpdateRequest;
 import com.event.eventscheduler.adapter.input.rest.dto.request.SingleEventRequest;
+import com.event.eventscheduler.adapter.input.rest.dto.response.BulkItemResponse;
 import com.event.eventscheduler.adapter.input.rest.dto.response.EventResponse;
+import com.event.eventscheduler.adapter.input.rest.dto.response.TimeSlotResponse;
 import com.event.eventscheduler.adapter.input.rest.mapper.EventMapper;
 import com.event.eventscheduler.adapter.input.rest.exception.GlobalExceptionHandler;
+import com.event.eventscheduler.adapter.input.rest.ical.CalendarImporter;
+import com.event.eventscheduler.adapter.input.rest.json.BulkEventReader;
 import com.event.eventscheduler.domain.exception.ResourceNotFoundException;
 import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import com.event.eventscheduler.domain.port.input.BulkCreateEventsUseCase;
 import com.event.eventscheduler.domain.port.input.CreateCyclicEventUseCase;
 import com.event.eventscheduler.domain.port.input.CreateEventUseCase;
+import com.event.eventscheduler.domain.port.input.ExportCalendarUseCase;
+import com.event.eventscheduler.domain.port.input.FindFreeSlotsUseCase;
 import com.event.eventscheduler.domain.port.input.GetEventsUseCase;
+import com.event.eventscheduler.domain.port.input.ImportCalendarUseCase;
 import com.event.eventscheduler.domain.port.input.UpdateEventUseCase;
 import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
 import com.event.eventscheduler.domain.port.input.command.UpdateEventCommand;
@@ -21,22 +36,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest
-@Import({EventController.class, GlobalExceptionHandler.class})
+@Import({EventController.class, GlobalExceptionHandler.class, DayResponseCache.class, BulkEventReader.class, CalendarImporter.class})
 class EventControllerTest {
 
     @Autowired
@@ -46,6 +68,10 @@ class EventControllerTest {
     @MockitoBean private CreateCyclicEventUseCase createCyclicEventUseCase;
     @MockitoBean private GetEventsUseCase getEventUseCase;
     @MockitoBean private UpdateEventUseCase updateEventUseCase;
+    @MockitoBean private BulkCreateEventsUseCase bulkCreateEventsUseCase;
+    @MockitoBean private FindFreeSlotsUseCase findFreeSlotsUseCase;
+    @MockitoBean private ExportCalendarUseCase exportCalendarUseCase;
+    @MockitoBean private ImportCalendarUseCase importCalendarUseCase;
     @MockitoBean private EventMapper eventMapper;
 
     @Autowired
@@ -102,6 +128,59 @@ class EventControllerTest {
         verify(eventMapper, times(1)).toResponse(any(Event.class));
     }
 
+    @Test
+    void addEvents_Partial_ShouldReturn_200WithPerItemResults() throws Exception {
+        // Arrange
+        BulkItemResult created = new BulkItemResult(0, BulkItemStatus.CREATED, domainEvent, null);
+        BulkItemResult conflict = new BulkItemResult(1, BulkItemStatus.CONFLICT, null, "Overlaps item 0 of the same batch.");
+        when(eventMapper.toSingleCommand(any(SingleEventRequest.class))).thenReturn(createCommand);
+        when(bulkCreateEventsUseCase.createEvents(anyList(), eq(BulkImportMode.PARTIAL))).thenReturn(List.of(created, conflict));
+        when(eventMapper.toBulkItemResponse(created)).thenReturn(new BulkItemResponse(0, BulkItemStatus.CREATED, eventResponse, null));
+        when(eventMapper.toBulkItemResponse(conflict)).thenReturn(new BulkItemResponse(1, BulkItemStatus.CONFLICT, null, conflict.getMessage()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/bulk")
+                        .param("mode", "PARTIAL")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(singleRequest, singleRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].event.id").value(5L))
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"));
+
+        verify(eventMapper, times(2)).toSingleCommand(any(SingleEventRequest.class));
+        verify(bulkCreateEventsUseCase, times(1)).createEvents(argThat(commands -> commands.size() == 2), eq(BulkImportMode.PARTIAL));
+    }
+
+    @Test
+    void addEvents_ShouldReturn_400BadRequest_WhenPayloadIsNotAnArray() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/events/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(singleRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(bulkCreateEventsUseCase, never()).createEvents(anyList(), any());
+    }
+
+    @Test
+    void getAvailableSlots_ShouldPassParsedParametersToUseCase() throws Exception {
+        // Arrange
+        TimeSlot slot = new TimeSlot(testStart, testEnd);
+        when(findFreeSlotsUseCase.findAvailableSlots(testStart, Duration.ofMinutes(60), 2, LocalTime.of(9, 0), LocalTime.of(17, 0)))
+                .thenReturn(List.of(slot));
+        when(eventMapper.toSlotResponse(slot)).thenReturn(new TimeSlotResponse(testStart, testEnd));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/free/next")
+                        .param("after", "2025-11-10T10:00")
+                        .param("minutes", "60")
+                        .param("count", "2")
+                        .param("workdayStart", "09:00")
+                        .param("workdayEnd", "17:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start").value("2025-11-10T10:00:00"));
+    }
+
     @Test
     void addSingleEvent_ShouldReturn_409Conflict_OnOverlap() throws Exception {
         // Arrange
@@ -189,6 +268,203 @@ class EventControllerTest {
         verify(eventMapper, times(1)).toResponse(any(Event.class));
     }
 
-}
+    @Test
+    void getEventsBetween_ShouldReturn_304NotModified_WithoutCallingUseCase_WhenETagMatches() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 12, 1);
+        LocalDate to = from.plusDays(6);
+        when(getEventUseCase.getEventsBetween(from, to)).thenReturn(Collections.singletonList(domainEvent));
+        when(eventMapper.toResponse(any(Event.class))).thenReturn(eventResponse);
+
+        String eTag = mockMvc.perform(get("/api/events/range")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(getEventUseCase, times(1)).getEventsBetween(from, to);
+    }
+
+    @Test
+    void getEventsBetween_ShouldReturn_400BadRequest_WhenRangeIsReversed_EvenWithIfNoneMatch() throws Exception {
+        // Arrange: a reversed range used to get an epoch-only ETag, which a stale tag could match
+        String eTag = mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-12-01")
+                        .param("to", "2025-12-07"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-12-07")
+                        .param("to", "2025-12-01")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("ETag"));
+
+        verify(getEventUseCase, never()).getEventsBetween(LocalDate.of(2025, 12, 7), LocalDate.of(2025, 12, 1));
+    }
+
+    @Test
+    void getEventsByDay_ShouldReturn_400BadRequest_WhenRangeIsTooLong_EvenWithIfNoneMatch() throws Exception {
+        // Act & Assert: rejected before the ETag would walk every day up to year 9999
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "0001-01-01")
+                        .param("to", "9999-12-31")
+                        .param("groupByDay", "true")
+                        .header("If-None-Match", "*"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("ETag"));
+
+        verify(getEventUseCase, never()).getEventsByDay(any(), any());
+    }
+
+    @Test
+    void exportCalendar_ShouldStreamOneVEventPerSeriesAndSingleEvent() throws Exception {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setId(9L);
+        rule.setTitle("Weekly Sync");
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setStartDate(testStart.toLocalDate());
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
 
+        doAnswer(invocation -> {
+            Consumer<RecurrenceRule> series = invocation.getArgument(0);
+            Consumer<Event> singleEvents = invocation.getArgument(1);
+            series.accept(rule);
+            singleEvents.accept(domainEvent);
+            return null;
+        }).when(exportCalendarUseCase).exportCalendar(any(), any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/events/calendar.ics"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(2, body.split("BEGIN:VEVENT").length - 1);
+        assertTrue(body.contains("UID:series-9@event-scheduler\r\nDTSTAMP:"));
+        assertTrue(body.contains("RRULE:FREQ=WEEKLY\r\n"));
+        assertTrue(body.contains("SUMMARY:Team Sync\r\n"));
+    }
+
+    @Test
+    void importCalendar_ShouldStreamProgress_WithRejectionsIndexedByVEvent() throws Exception {
+        // Arrange: the second VEVENT cannot be read, the third clashes
+        String calendar = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "SUMMARY:Team Sync", "DTSTART:20251110T100000", "DTEND:20251110T110000", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:No start", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Clash", "DTSTART:20251110T103000", "DTEND:20251110T113000", "END:VEVENT",
+                "END:VCALENDAR", "");
+
+        when(importCalendarUseCase.importBatch(anyList())).thenReturn(List.of(
+                new BulkItemResult(0, BulkItemStatus.CREATED, domainEvent, null),
+                new BulkItemResult(1, BulkItemStatus.CONFLICT, null, "Event conflicts with Team Sync")));
+
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/events/import")
+                        .contentType("text/calendar")
+                        .content(calendar))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"processed\":3,\"created\":1,\"rejected\":2"));
+        assertTrue(lines[0].contains("{\"index\":1,\"status\":\"INVALID\""));
+        assertTrue(lines[0].contains("{\"index\":2,\"status\":\"CONFLICT\""));
+        assertTrue(lines[1].contains("\"done\":true"));
+        verify(importCalendarUseCase, times(1)).importBatch(argThat(items -> items.size() == 2));
+    }
+
+    @Test
+    void importCalendar_ShouldEndWithAnErrorLine_WhenABatchCannotBeSaved() throws Exception {
+        // Arrange: a concurrent writer trips the store's no-overlap constraint
+        String calendar = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "SUMMARY:Team Sync", "DTSTART:20251110T100000", "DTEND:20251110T110000", "END:VEVENT",
+                "END:VCALENDAR", "");
+        when(importCalendarUseCase.importBatch(anyList())).thenThrow(new DataIntegrityViolationException("event_no_overlap"));
 
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/events/import")
+                        .contentType("text/calendar")
+                        .content(calendar))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert: the stream is not cut off, its last line says why it stopped
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"processed\":0"));
+        assertTrue(lines[0].contains("\"done\":true"));
+        assertTrue(lines[0].contains("\"error\":\"Import stopped after 0 VEVENTs"));
+    }
+
+    @Test
+    void findAll_ShouldReturn_400BadRequest_WhenLimitTooLarge() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events/all")
+                        .param("limit", "5000"))
+                .andExpect(status().isBadRequest());
+
+        verify(getEventUseCase, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    void streamAll_ShouldReturn_OneJsonLinePerEvent() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(0);
+            consumer.accept(domainEvent);
+            consumer.accept(domainEvent);
+            return null;
+        }).when(getEventUseCase).streamAll(any());
+        when(getEventUseCase.listingHorizon()).thenReturn(LocalDate.of(2026, 11, 10));
+        when(eventMapper.toResponse(any(Event.class))).thenReturn(eventResponse);
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("X-Listed-Until", "2026-11-10"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Team Sync", objectMapper.readTree(lines[0]).get("title").asText());
+    }
+
+}
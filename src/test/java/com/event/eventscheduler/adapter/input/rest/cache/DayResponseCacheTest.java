@@ -0,0 +1,163 @@
+package com.event.eventscheduler.adapter.input.rest.cache;
+
+import com.event.eventscheduler.adapter.output.notification.ScheduleChangedEvent;
+import com.event.eventscheduler.adapter.output.notification.SpringScheduleChangeNotifier;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
+import com.event.eventscheduler.domain.port.input.command.RecurrenceRuleCommand;
+import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
+import com.event.eventscheduler.domain.service.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DayResponseCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 10);
+
+    @Test
+    void get_ShouldServeSecondRequestFromCache() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(MONDAY, () -> bytes(loads.incrementAndGet()));
+        byte[] second = cache.get(MONDAY, () -> bytes(loads.incrementAndGet()));
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(bytes(1));
+    }
+
+    @Test
+    void onScheduleChanged_ShouldDropOnlyTheTouchedDays() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(10);
+        cache.get(MONDAY, () -> bytes(1));
+        cache.get(MONDAY.plusDays(1), () -> bytes(2));
+
+        // Act
+        cache.onScheduleChanged(new ScheduleChangedEvent(Set.of(MONDAY)));
+
+        // Assert
+        assertThat(cache.get(MONDAY, () -> bytes(3))).isEqualTo(bytes(3));
+        assertThat(cache.get(MONDAY.plusDays(1), () -> bytes(4))).isEqualTo(bytes(2));
+    }
+
+    @Test
+    void createCyclicEvent_ShouldDropCachedDaysPastTheFirstYear_OfAnOpenEndedSeries() {
+        // Arrange: a day two years into the series is cached, as is the day before it starts
+        DayResponseCache cache = new DayResponseCache(10);
+        LocalDate farDay = MONDAY.plusYears(2);
+        cache.get(farDay, () -> bytes(1));
+        cache.get(MONDAY.minusDays(1), () -> bytes(2));
+
+        // Act
+        openEndedSeriesFrom(cache, MONDAY);
+
+        // Assert
+        assertThat(cache.get(farDay, () -> bytes(3))).isEqualTo(bytes(3));
+        assertThat(cache.get(MONDAY.minusDays(1), () -> bytes(4))).isEqualTo(bytes(2));
+    }
+
+    @Test
+    void get_ShouldNotStoreALoadThatRacedWithAnInvalidation() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(10);
+
+        // Act: a write commits while the first load is still running
+        cache.get(MONDAY, () -> {
+            cache.onScheduleChanged(new ScheduleChangedEvent(Set.of(MONDAY)));
+            return bytes(1);
+        });
+
+        // Assert
+        assertThat(cache.get(MONDAY, () -> bytes(2))).isEqualTo(bytes(2));
+    }
+
+    @Test
+    void eTag_ShouldChange_OnlyWhenOneOfItsDaysChanges() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(10);
+        String day = cache.eTag(MONDAY, MONDAY);
+        String week = cache.eTag(MONDAY, MONDAY.plusDays(6));
+        String nextWeek = cache.eTag(MONDAY.plusWeeks(1), MONDAY.plusWeeks(1).plusDays(6));
+
+        // Act
+        cache.onScheduleChanged(new ScheduleChangedEvent(Set.of(MONDAY.plusDays(2))));
+
+        // Assert
+        assertThat(cache.eTag(MONDAY, MONDAY)).isEqualTo(day);
+        assertThat(cache.eTag(MONDAY, MONDAY.plusDays(6))).isNotEqualTo(week).startsWith("\"");
+        assertThat(cache.eTag(MONDAY.plusWeeks(1), MONDAY.plusWeeks(1).plusDays(6))).isEqualTo(nextWeek);
+    }
+
+    @Test
+    void eTag_ShouldChange_ForADayPastTheFirstYear_OfANewOpenEndedSeries() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(10);
+        LocalDate farDay = MONDAY.plusYears(2);
+        String before = cache.eTag(farDay, farDay);
+
+        // Act
+        openEndedSeriesFrom(cache, MONDAY);
+
+        // Assert
+        assertThat(cache.eTag(farDay, farDay)).isNotEqualTo(before);
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedDay_AndReportMetrics() {
+        // Arrange
+        DayResponseCache cache = new DayResponseCache(2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(MONDAY, () -> bytes(1));
+        cache.get(MONDAY.plusDays(1), () -> bytes(2));
+        cache.get(MONDAY, () -> bytes(3));                   // Monday is now the most recently used
+
+        // Act
+        cache.get(MONDAY.plusDays(2), () -> bytes(4));
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(MONDAY, () -> bytes(5))).isEqualTo(bytes(1));
+        assertThat(registry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+    }
+
+    /**
+     * Creates a virtual weekly series with no end through the service, its change notices delivered straight to the cache.
+     */
+    private static void openEndedSeriesFrom(DayResponseCache cache, LocalDate startDate) {
+        RecurrenceRuleRepositoryPort rules = mock(RecurrenceRuleRepositoryPort.class);
+        when(rules.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        EventService service = new EventService(mock(EventRepositoryPort.class), rules,
+                new SpringScheduleChangeNotifier(event -> cache.onScheduleChanged((ScheduleChangedEvent) event)));
+
+        RecurrenceRuleCommand rule = new RecurrenceRuleCommand();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setByDay(Set.of(startDate.getDayOfWeek()));
+        rule.setStartDate(startDate);
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
+        service.createCyclicEvent(new CreateCyclicEventCommand("Weekly", rule, true));
+    }
+
+    private static byte[] bytes(int value) {
+        return ("[" + value + "]").getBytes();
+    }
+}
@@ -0,0 +1,175 @@
+package com.event.eventscheduler.adapter.input.rest.ical;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import com.event.eventscheduler.domain.port.input.command.RecurrenceRuleCommand;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ICalendarReaderTest {
+
+    private static final ZoneId WARSAW = ZoneId.of("Europe/Warsaw");
+
+    @Test
+    void next_ShouldMapRRuleOntoASeries_SkippingNestedComponents() {
+        // Arrange: a folded SUMMARY, a VTIMEZONE before the event and a VALARM inside it
+        ICalendarReader reader = reader(
+                "BEGIN:VTIMEZONE",
+                "TZID:Europe/Berlin",
+                "BEGIN:STANDARD",
+                "DTSTART:19701025T030000",
+                "END:STANDARD",
+                "END:VTIMEZONE",
+                "BEGIN:VEVENT",
+                "UID:1@example.com",
+                "SUMMARY:Planning\\, q",
+                " uarterly",
+                "DTSTART;TZID=Europe/Berlin:20250113T090000",
+                "DTEND;TZID=Europe/Berlin:20250113T093000",
+                "RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;UNTIL=20250331T080000Z;WKST=MO",
+                "EXDATE;TZID=Europe/Berlin:20250127T090000,20250129T090000",
+                "EXDATE;VALUE=DATE:20250210",
+                "BEGIN:VALARM",
+                "TRIGGER:-PT15M",
+                "ACTION:DISPLAY",
+                "END:VALARM",
+                "END:VEVENT");
+
+        // Act
+        ICalendarReader.Entry entry = reader.next();
+
+        // Assert
+        assertThat(entry.problem()).isNull();
+        assertThat(entry.item().getSingleEvent()).isNull();
+        assertThat(entry.item().getSeries().getTitle()).isEqualTo("Planning, quarterly");
+        assertThat(entry.item().getSeries().isVirtual()).isTrue();
+
+        RecurrenceRuleCommand rule = entry.item().getSeries().getRecurrenceRule();
+        assertThat(rule.getFrequency()).isEqualTo(Frequency.WEEKLY);
+        assertThat(rule.getInterval()).isEqualTo(2);
+        assertThat(rule.getByDay()).isEqualTo(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        assertThat(rule.getRepeatUntilDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(rule.getExDates()).isEqualTo(Set.of(LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 29), LocalDate.of(2025, 2, 10)));
+        assertThat(rule.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 13));
+        assertThat(rule.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(rule.getEndTime()).isEqualTo(LocalTime.of(9, 30));
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void nextBatch_ShouldConvertTimes_AndReportUnsupportedEventsByFileIndex() {
+        // Arrange
+        ICalendarReader reader = reader(
+                vevent("Call", "DTSTART:20250110T080000Z", "DTEND:20250110T090000Z"),
+                vevent("Offsite", "DTSTART;VALUE=DATE:20250111"),
+                vevent("Monthly", "DTSTART:20250112T100000", "DTEND:20250112T110000", "RRULE:FREQ=MONTHLY;BYDAY=1MO"),
+                vevent("New York", "DTSTART;TZID=America/New_York:20250113T090000", "DURATION:PT45M"),
+                vevent("Moved", "DTSTART:20250114T100000", "DTEND:20250114T110000", "RECURRENCE-ID:20250114T090000"));
+
+        // Act
+        List<ICalendarReader.Entry> first = reader.nextBatch(3);
+        List<ICalendarReader.Entry> second = reader.nextBatch(3);
+
+        // Assert: UTC and TZID times are taken to the server's zone, an all-day event lasts a day
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(2);
+        assertThat(reader.nextBatch(3)).isEmpty();
+
+        assertSingle(first.get(0), LocalDateTime.of(2025, 1, 10, 9, 0), LocalDateTime.of(2025, 1, 10, 10, 0));
+        assertSingle(first.get(1), LocalDateTime.of(2025, 1, 11, 0, 0), LocalDateTime.of(2025, 1, 12, 0, 0));
+        assertSingle(second.get(0), LocalDateTime.of(2025, 1, 13, 15, 0), LocalDateTime.of(2025, 1, 13, 15, 45));
+
+        assertThat(first.get(2).index()).isEqualTo(2);
+        assertThat(first.get(2).item()).isNull();
+        assertThat(first.get(2).problem()).contains("BYDAY");
+        assertThat(second.get(1).index()).isEqualTo(4);
+        assertThat(second.get(1).problem()).contains("RECURRENCE-ID");
+    }
+
+    @Test
+    void next_ShouldRejectByMonthDayAndByMonth_WhenTheyNarrowByDay() {
+        // Act & Assert: 2025-06-13 is a Friday, 2025-03-03 a Monday
+        assertThat(problemOf("20250613T090000", "FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13")).contains("BYDAY");
+        assertThat(problemOf("20250303T090000", "FREQ=YEARLY;BYMONTH=3;BYDAY=MO")).contains("BYDAY");
+        assertThat(problemOf("20250613T090000", "FREQ=YEARLY;BYMONTHDAY=13")).contains("BYMONTHDAY");
+        assertThat(problemOf("20250613T090000", "FREQ=YEARLY;BYMONTH=6;BYMONTHDAY=13")).isNull();
+        assertThat(problemOf("20250613T090000", "FREQ=MONTHLY;BYMONTHDAY=13")).isNull();
+    }
+
+    @Test
+    void next_ShouldRejectWkst_WhenItMovesTheDatesOfAMultiWeekRule() {
+        // Act & Assert: 2025-03-03 is a Monday
+        assertThat(problemOf("20250303T090000", "FREQ=WEEKLY;INTERVAL=2;BYDAY=TH;WKST=SU")).contains("WKST");
+        assertThat(problemOf("20250303T090000", "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;WKST=SU")).contains("WKST");
+        assertThat(problemOf("20250303T090000", "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO;WKST=SU")).isNull();
+        assertThat(problemOf("20250303T090000", "FREQ=WEEKLY;BYDAY=TH;WKST=SU")).isNull();
+    }
+
+    @Test
+    void next_ShouldEndTheSeriesTheDayBefore_WhenUntilIsEarlierInTheDayThanTheStart() {
+        // Act & Assert: weekly on Mondays at 09:00 Berlin; 2025-03-31 is a Monday, and Warsaw is UTC+2 by then
+        assertThat(untilOf("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250331T060000Z")).isEqualTo(LocalDate.of(2025, 3, 30));
+        assertThat(untilOf("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250330T235959Z")).isEqualTo(LocalDate.of(2025, 3, 30));
+        assertThat(untilOf("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250331T070000Z")).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(untilOf("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250331")).isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    void next_ShouldRejectATimedEvent_WithNeitherDtEndNorDuration() {
+        // Act & Assert: it would take no time; an all-day event without either still lasts its day
+        assertThat(reader(vevent("Instant", "DTSTART:20250110T080000")).next().problem()).contains("DTEND");
+        assertSingle(reader(vevent("Holiday", "DTSTART;VALUE=DATE:20250110")).next(),
+                LocalDateTime.of(2025, 1, 10, 0, 0), LocalDateTime.of(2025, 1, 11, 0, 0));
+    }
+
+    @Test
+    void constructor_ShouldRejectAStreamThatIsNotACalendar() {
+        // Arrange
+        ByteArrayInputStream body = new ByteArrayInputStream("title,start\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThatThrownBy(() -> new ICalendarReader(body, WARSAW, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSingle(ICalendarReader.Entry entry, LocalDateTime start, LocalDateTime end) {
+        assertThat(entry.problem()).isNull();
+        CreateSingleEventCommand event = entry.item().getSingleEvent();
+        assertThat(event.getStartDate()).isEqualTo(start);
+        assertThat(event.getEndDate()).isEqualTo(end);
+    }
+
+    private static String problemOf(String dtStart, String rrule) {
+        String end = dtStart.substring(0, 9) + "100000";
+        return reader(vevent("Series", "DTSTART:" + dtStart, "DTEND:" + end, "RRULE:" + rrule)).next().problem();
+    }
+
+    private static LocalDate untilOf(String rrule) {
+        ICalendarReader.Entry entry = reader(vevent("Series", "DTSTART;TZID=Europe/Berlin:20250303T090000",
+                "DTEND;TZID=Europe/Berlin:20250303T093000", "RRULE:" + rrule)).next();
+        assertThat(entry.problem()).isNull();
+        return entry.item().getSeries().getRecurrenceRule().getRepeatUntilDate();
+    }
+
+    private static String vevent(String summary, String... properties) {
+        return "BEGIN:VEVENT\r\nSUMMARY:" + summary + "\r\n" + String.join("\r\n", properties) + "\r\nEND:VEVENT";
+    }
+
+    private static ICalendarReader reader(String... lines) {
+        String calendar = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n" + String.join("\r\n", lines) + "\r\nEND:VCALENDAR\r\n";
+        return new ICalendarReader(new ByteArrayInputStream(calendar.getBytes(StandardCharsets.UTF_8)), WARSAW, true);
+    }
+}
@@ -0,0 +1,92 @@
+package com.event.eventscheduler.adapter.input.rest.ical;
+
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ICalendarWriterTest {
+
+    // 2025-01-01 is a Wednesday
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void writeSeries_ShouldWriteOneVEventWithRRule_StartingAtTheFirstGeneratedDate() {
+        // Arrange: the first Monday is excluded, but still DTSTART, so COUNT keeps its meaning
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setId(7L);
+        rule.setTitle("Stand-up");
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(2);
+        rule.setByDay(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY));
+        rule.setCount(10);
+        rule.setExDates(Set.of(LocalDate.of(2025, 1, 6)));
+        rule.setStartDate(WEDNESDAY);
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(9, 15));
+
+        // Act
+        String feed = write(writer -> writer.writeSeries(rule));
+
+        // Assert
+        assertThat(feed).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(feed).containsOnlyOnce("BEGIN:VEVENT")
+                .contains("UID:series-7@event-scheduler\r\n")
+                .contains("DTSTART:20250103T090000\r\n")
+                .contains("DTEND:20250103T091500\r\n")
+                .contains("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;COUNT=10\r\n")
+                .contains("EXDATE:20250106T090000\r\n");
+    }
+
+    @Test
+    void rrule_ShouldEndAtTheStartTimeOfTheUntilDate() {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setRepeatUntilDate(WEDNESDAY.plusDays(9));
+        rule.setStartDate(WEDNESDAY);
+        rule.setStartTime(LocalTime.of(18, 30));
+
+        // Act & Assert
+        assertThat(ICalendarWriter.rrule(rule)).isEqualTo("FREQ=DAILY;UNTIL=20250110T183000");
+    }
+
+    @Test
+    void writeEvent_ShouldEscapeTextAndFoldLongLines() {
+        // Arrange
+        LocalDateTime start = WEDNESDAY.atTime(14, 0);
+        Event event = new Event(3L, "Review; budget, plans\\notes " + "ü".repeat(40), start, start.plusHours(1), null);
+
+        // Act
+        String feed = write(writer -> writer.writeEvent(event));
+
+        // Assert
+        assertThat(feed).contains("SUMMARY:Review\\; budget\\, plans\\\\notes ü");
+        for (String line : feed.split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        String unfolded = feed.replace("\r\n ", "");
+        assertThat(unfolded).contains("SUMMARY:Review\\; budget\\, plans\\\\notes " + "ü".repeat(40) + "\r\n");
+    }
+
+    private static String write(Consumer<ICalendarWriter> body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ICalendarWriter writer = new ICalendarWriter(out);
+        writer.begin();
+        body.accept(writer);
+        writer.end();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,355 @@
+package com.event.eventscheduler.adapter.output.persistence;
+
+import com.event.eventscheduler.AbstractIntegrationTest;
+import com.event.eventscheduler.adapter.output.persistence.cache.RecurrenceRuleCache;
+import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
+import com.event.eventscheduler.adapter.output.persistence.mapper.EventPersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.mapper.RecurrenceRulePersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.repository.EventArchiveRepository;
+import com.event.eventscheduler.adapter.output.persistence.repository.EventRepository;
+import com.event.eventscheduler.adapter.output.persistence.repository.RecurrenceRuleRepository;
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventPersistenceAdapterTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private EventRepositoryPort eventRepositoryPort;
+
+    @Autowired
+    private RecurrenceRuleRepositoryPort recurrenceRuleRepositoryPort;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RecurrenceRuleRepository recurrenceRuleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventArchiveRepository eventArchiveRepository;
+
+    @Autowired
+    private EventPersistenceMapper eventPersistenceMapper;
+
+    @Autowired
+    private RecurrenceRulePersistenceMapper recurrenceRulePersistenceMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void saveAll_ShouldBatchA1000OccurrenceSeries() {
+        // Arrange
+        LocalDate firstDay = LocalDate.of(2040, 1, 1);
+
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setStartDate(firstDay);
+        rule.setStartTime(LocalTime.of(6, 0));
+        rule.setEndTime(LocalTime.of(6, 30));
+        rule.setTitle("Batched Series");
+        RecurrenceRule savedRule = recurrenceRuleRepositoryPort.save(rule);
+
+        List<Event> occurrences = new ArrayList<>();
+        for (int day = 0; day < 1000; day++) {
+            LocalDateTime start = firstDay.plusDays(day).atTime(6, 0);
+            occurrences.add(new Event(null, "Batched Series", start, start.plusMinutes(30), savedRule));
+        }
+
+        statistics.clear();
+
+        // Act
+        List<Event> saved = transactionTemplate.execute(status -> eventRepositoryPort.saveAll(occurrences));
+
+        // Assert
+        assertThat(saved).hasSize(1000).allMatch(event -> event.getId() != null);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1000);
+
+        // 1000 rows at batch size 50 plus one pooled sequence call per 50 ids: a few dozen round trips, not 1000+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(45);
+    }
+
+    @Test
+    void save_ShouldThrowScheduleConflictException_WhenExclusionConstraintRejectsOverlap() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2041, 3, 1, 9, 0);
+        eventRepositoryPort.save(new Event(null, "Existing", start, start.plusHours(2), null));
+
+        Event overlapping = new Event(null, "Overlapping", start.plusHours(1), start.plusHours(3), null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> eventRepositoryPort.save(overlapping)))
+                .isInstanceOf(ScheduleConflictException.class);
+    }
+
+    @Test
+    void save_ShouldAllowBackToBackEvents() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2041, 4, 1, 9, 0);
+        eventRepositoryPort.save(new Event(null, "First", start, start.plusHours(1), null));
+
+        // Act
+        Event second = eventRepositoryPort.save(new Event(null, "Second", start.plusHours(1), start.plusHours(2), null));
+
+        // Assert
+        assertThat(second.getId()).isNotNull();
+    }
+
+    @Test
+    void streamAll_ShouldHandEveryStoredEventToTheConsumer() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2041, 5, 1, 9, 0);
+        List<Event> stored = new ArrayList<>();
+        for (int hour = 0; hour < 3; hour++) {
+            stored.add(eventRepositoryPort.save(new Event(null, "Streamed", start.plusHours(hour), start.plusHours(hour).plusMinutes(30), null)));
+        }
+        List<Long> streamedIds = new ArrayList<>();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> eventRepositoryPort.streamAll(event -> streamedIds.add(event.getId())));
+
+        // Assert
+        assertThat(streamedIds).containsAll(stored.stream().map(Event::getId).toList());
+    }
+
+    @Test
+    void findOverlapping_ShouldCostOneStatement_WhenRulesAreCached() {
+        // Arrange: a rule saved through the port is cached, so reading its events needs no rule query
+        LocalDate firstDay = LocalDate.of(2044, 1, 4);
+        RecurrenceRule savedRule = recurrenceRuleRepositoryPort.save(dailyRule("Cached Rule", firstDay));
+        List<Event> occurrences = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            LocalDateTime start = firstDay.plusDays(day).atTime(7, 0);
+            occurrences.add(new Event(null, "Cached Rule", start, start.plusMinutes(30), savedRule));
+        }
+        transactionTemplate.execute(status -> eventRepositoryPort.saveAll(occurrences));
+
+        statistics.clear();
+
+        // Act
+        List<Event> found = eventRepositoryPort.findOverlapping(firstDay.atStartOfDay(), firstDay.plusDays(3).atStartOfDay());
+
+        // Assert
+        assertThat(found).hasSize(3).allMatch(event -> "Cached Rule".equals(event.getRecurrenceRule().getTitle()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();       // projected rows, no managed entities
+    }
+
+    @Test
+    void findByStartDateBetween_ShouldLoadUncachedRulesInOneStatement() {
+        // Arrange: three rules written straight through JPA, so none of them is cached yet
+        LocalDate day = LocalDate.of(2044, 2, 1);
+        List<EventEntity> events = new ArrayList<>();
+        for (int hour = 0; hour < 3; hour++) {
+            RecurrenceRuleEntity rule = recurrenceRuleRepository.save(ruleEntity("Cold Rule " + hour, day));
+            EventEntity event = new EventEntity();
+            event.setTitle("Cold Rule " + hour);
+            event.setStartDate(day.atTime(8 + hour, 0));
+            event.setEndDate(day.atTime(8 + hour, 30));
+            event.setRecurrenceRuleEntity(rule);
+            events.add(event);
+        }
+        eventRepository.saveAll(events);
+
+        statistics.clear();
+
+        // Act
+        List<Event> found = eventRepositoryPort.findByStartDateBetween(day.atStartOfDay(), day.atTime(LocalTime.MAX));
+
+        // Assert: one statement for the events and one for all their rules, not one per rule
+        assertThat(found).hasSize(3).allMatch(event -> event.getRecurrenceRule().getTitle().startsWith("Cold Rule"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(3);      // the rules only; events are read as projections
+    }
+
+    @Test
+    void streamAll_ShouldLoadEachRuleOnce_WithAColdCache() {
+        // Arrange: a 20-row series written straight through JPA, streamed through an adapter with an empty cache
+        LocalDate firstDay = LocalDate.of(2045, 3, 1);
+        RecurrenceRuleEntity rule = recurrenceRuleRepository.save(ruleEntity("Streamed Rule", firstDay));
+        List<EventEntity> events = new ArrayList<>();
+        for (int day = 0; day < 20; day++) {
+            EventEntity event = new EventEntity();
+            event.setTitle("Streamed Rule");
+            event.setStartDate(firstDay.plusDays(day).atTime(8, 0));
+            event.setEndDate(firstDay.plusDays(day).atTime(8, 30));
+            event.setRecurrenceRuleEntity(rule);
+            events.add(event);
+        }
+        eventRepository.saveAll(events);
+
+        long seriesInTable = ((Number) entityManager.createNativeQuery("SELECT COUNT(DISTINCT rule_id) FROM event").getSingleResult()).longValue();
+        EventRepositoryPort coldAdapter = new EventPersistenceAdapter(eventRepository, eventArchiveRepository, eventPersistenceMapper,
+                new RecurrenceRuleCache(recurrenceRuleRepository, recurrenceRulePersistenceMapper, 10_000),
+                new LongestEventBound(eventRepository, false, Duration.ofMinutes(1)), false);
+        List<Event> streamed = new ArrayList<>();
+
+        statistics.clear();
+
+        // Act
+        transactionTemplate.execute(status -> {
+            coldAdapter.streamAll(streamed::add);
+            return null;
+        });
+
+        // Assert: one statement for the rows and one per series, not one per row
+        assertThat(streamed).filteredOn(event -> "Streamed Rule".equals(event.getTitle())).hasSize(20)
+                .allMatch(event -> "Streamed Rule".equals(event.getRecurrenceRule().getTitle()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + seriesInTable);
+    }
+
+    @Test
+    void archiveEndedBefore_ShouldMoveOldEvents_AndStillServeThemForPastDates() {
+        // Arrange
+        LocalDateTime old = LocalDateTime.of(2001, 1, 10, 9, 0);
+        Event archived = eventRepositoryPort.save(new Event(null, "Archived", old, old.plusHours(1), null));
+        Event recent = eventRepositoryPort.save(new Event(null, "Recent", old.plusMonths(2), old.plusMonths(2).plusHours(1), null));
+
+        // Act
+        int moved = transactionTemplate.execute(status -> eventRepositoryPort.archiveEndedBefore(LocalDateTime.of(2001, 2, 1, 0, 0), 1000));
+
+        // Assert
+        assertThat(moved).isGreaterThanOrEqualTo(1);
+        assertThat(eventRepository.existsById(archived.getId())).isFalse();
+        assertThat(eventRepositoryPort.findAll()).extracting(Event::getId)
+                .contains(recent.getId())
+                .doesNotContain(archived.getId());
+
+        assertThat(eventRepositoryPort.findByStartDateBetween(old.toLocalDate().atStartOfDay(), old.toLocalDate().atTime(LocalTime.MAX)))
+                .extracting(Event::getTitle).containsExactly("Archived");
+        assertThat(eventRepositoryPort.findConflictingEvents(old.plusMinutes(30), old.plusHours(2)))
+                .extracting(Event::getId).containsExactly(archived.getId());
+    }
+
+    @Test
+    void archiveEndedBefore_ShouldLetTwoConcurrentRunsClaimDifferentEvents() throws Exception {
+        // Arrange
+        LocalDateTime old = LocalDateTime.of(1990, 1, 1, 9, 0);
+        LocalDateTime cutoff = LocalDateTime.of(1990, 2, 1, 0, 0);
+        List<Long> ids = new ArrayList<>();
+        for (int day = 0; day < 6; day++) {
+            ids.add(eventRepositoryPort.save(new Event(null, "Old " + day, old.plusDays(day), old.plusDays(day).plusHours(1), null)).getId());
+        }
+
+        CountDownLatch firstRunHoldsItsBatch = new CountDownLatch(1);
+        CountDownLatch releaseFirstRun = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act: the first run keeps its transaction open while the second one runs
+            Future<Integer> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                int moved = eventRepositoryPort.archiveEndedBefore(cutoff, 3);
+                firstRunHoldsItsBatch.countDown();
+                awaitQuietly(releaseFirstRun);
+                return moved;
+            }));
+            assertThat(firstRunHoldsItsBatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<Integer> second = executor.submit(() -> transactionTemplate.execute(status -> eventRepositoryPort.archiveEndedBefore(cutoff, 1000)));
+            int movedBySecond = second.get(10, TimeUnit.SECONDS);
+
+            releaseFirstRun.countDown();
+            int movedByFirst = first.get(10, TimeUnit.SECONDS);
+
+            // Assert: each event was archived exactly once
+            assertThat(movedByFirst).isEqualTo(3);
+            assertThat(movedBySecond).isEqualTo(3);
+            assertThat(eventRepository.findAllById(ids)).isEmpty();
+            assertThat(eventRepositoryPort.findByStartDateBetween(old, cutoff))
+                    .extracting(Event::getId).containsExactlyInAnyOrderElementsOf(ids);
+        } finally {
+            releaseFirstRun.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void save_ShouldStoreASeriesWithMoreExDatesThanAVarchar4000Holds() {
+        // Arrange: 1000 EXDATEs serialize to about 11000 characters
+        RecurrenceRule rule = dailyRule("Many Exceptions", LocalDate.of(2045, 1, 1));
+        Set<LocalDate> exDates = new HashSet<>();
+        for (int day = 0; day < 1000; day++) {
+            exDates.add(rule.getStartDate().plusDays(2L * day));
+        }
+        rule.setExDates(exDates);
+
+        // Act
+        RecurrenceRule saved = recurrenceRuleRepositoryPort.save(rule);
+
+        // Assert
+        assertThat(recurrenceRuleRepository.findById(saved.getId()).orElseThrow().getExDates()).isEqualTo(exDates);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RecurrenceRule dailyRule(String title, LocalDate startDate) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setStartDate(startDate);
+        rule.setStartTime(LocalTime.of(7, 0));
+        rule.setEndTime(LocalTime.of(7, 30));
+        rule.setTitle(title);
+        return rule;
+    }
+
+    private RecurrenceRuleEntity ruleEntity(String title, LocalDate startDate) {
+        RecurrenceRuleEntity rule = new RecurrenceRuleEntity();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setInterval(1);
+        rule.setStartDate(startDate);
+        rule.setStartTime(LocalTime.of(8, 0));
+        rule.setEndTime(LocalTime.of(8, 30));
+        rule.setTitle(title);
+        return rule;
+    }
+}
@@ -0,0 +1,125 @@
+package com.event.eventscheduler.adapter.output.persistence.cache;
+
+import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
+import com.event.eventscheduler.adapter.output.persistence.mapper.RecurrenceRulePersistenceMapper;
+import com.event.eventscheduler.adapter.output.persistence.repository.RecurrenceRuleRepository;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecurrenceRuleCacheTest {
+
+    private final RecurrenceRuleRepository ruleRepository = mock(RecurrenceRuleRepository.class);
+    private final RecurrenceRulePersistenceMapper ruleMapper = mock(RecurrenceRulePersistenceMapper.class);
+    private final RecurrenceRuleCache cache = new RecurrenceRuleCache(ruleRepository, ruleMapper, 10);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_ShouldCacheTheRuleOnlyAfterItsTransactionCommits() {
+        // Arrange
+        when(ruleRepository.findAllById(anyIterable())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.put(weeklyRule(7L));
+        boolean cachedBeforeCommit = cache.getAll(Set.of(7L)).containsKey(7L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertThat(cachedBeforeCommit).isFalse();
+        assertThat(cache.getAll(Set.of(7L))).containsKey(7L);
+    }
+
+    @Test
+    void getAll_ShouldCacheRulesReadFromTheDatabase_WithoutWaitingForTheCommit() {
+        // Arrange: a long read-only transaction, such as a stream of the whole table
+        RecurrenceRuleEntity entity = new RecurrenceRuleEntity();
+        when(ruleRepository.findAllById(anyIterable())).thenReturn(List.of(entity));
+        when(ruleMapper.toDomain(entity)).thenReturn(weeklyRule(7L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.getAll(Set.of(7L));
+        RecurrenceRule second = cache.getAll(Set.of(7L)).get(7L);
+
+        // Assert
+        assertThat(second.getTitle()).isEqualTo("Standup");
+        verify(ruleRepository, times(1)).findAllById(anyIterable());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void evict_ShouldReloadTheMovedWatermark_OnceTheTransactionEnds() {
+        // Arrange: the rule is cached with its old watermark
+        RecurrenceRuleEntity entity = new RecurrenceRuleEntity();
+        RecurrenceRule moved = weeklyRule(7L);
+        moved.setMaterializedUntil(LocalDate.of(2030, 4, 1));
+        when(ruleRepository.findAllById(anyIterable())).thenReturn(List.of(entity));
+        when(ruleMapper.toDomain(entity)).thenReturn(moved);
+        RecurrenceRule cached = weeklyRule(7L);
+        cached.setMaterializedUntil(LocalDate.of(2030, 3, 4));
+        cache.put(cached);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act: the watermark moves; a read in the same transaction is served but not cached
+        cache.evict(7L);
+        cache.getAll(Set.of(7L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        RecurrenceRule read = cache.getAll(Set.of(7L)).get(7L);
+
+        // Assert
+        assertThat(read.getMaterializedUntil()).isEqualTo(LocalDate.of(2030, 4, 1));
+        verify(ruleRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void getAll_ShouldHandOutCopies_ThatChangesByCallersDoNotReach() {
+        // Arrange
+        RecurrenceRule saved = weeklyRule(7L);
+        cache.put(saved);
+
+        // Act
+        saved.setTitle("Changed by the saver");
+        cache.getAll(Set.of(7L)).get(7L).getByDay().add(DayOfWeek.FRIDAY);
+        RecurrenceRule read = cache.getAll(Set.of(7L)).get(7L);
+
+        // Assert
+        assertThat(read.getTitle()).isEqualTo("Standup");
+        assertThat(read.getByDay()).containsExactly(DayOfWeek.MONDAY);
+    }
+
+    private static RecurrenceRule weeklyRule(Long id) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setId(id);
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.getByDay().add(DayOfWeek.MONDAY);
+        rule.setStartDate(LocalDate.of(2030, 1, 7));
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(9, 15));
+        rule.setTitle("Standup");
+        return rule;
+    }
+}
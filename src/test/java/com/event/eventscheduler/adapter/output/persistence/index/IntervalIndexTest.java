@@ -0,0 +1,75 @@
+package com.event.eventscheduler.adapter.output.persistence.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalIndexTest {
+
+    private IntervalIndex index;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        index = new IntervalIndex();
+        base = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+        index.replaceAll(List.of(
+                new IndexedInterval(1L, base, base.plusHours(1)),
+                new IndexedInterval(2L, base.plusHours(2), base.plusHours(3)),
+                // A long event that starts well before the others
+                new IndexedInterval(3L, base.minusDays(1), base.minusDays(1).plusHours(8))
+        ));
+    }
+
+    @Test
+    void findOverlapping_ShouldReturnOverlappingIds() {
+        // Act
+        List<Long> overlapping = index.findOverlapping(base.plusMinutes(30), base.plusHours(2).plusMinutes(30), null);
+
+        // Assert
+        assertThat(overlapping).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void findOverlapping_ShouldTreatIntervalsAsHalfOpen() {
+        // Act: touching [10:00, 11:00) neither overlaps 1 nor 2
+        List<Long> overlapping = index.findOverlapping(base.plusHours(1), base.plusHours(2), null);
+
+        // Assert
+        assertThat(overlapping).isEmpty();
+    }
+
+    @Test
+    void findOverlapping_ShouldFindLongIntervalStartingBeforeTheWindow() {
+        // Act
+        List<Long> overlapping = index.findOverlapping(base.minusDays(1).plusHours(7), base.minusDays(1).plusHours(9), null);
+
+        // Assert
+        assertThat(overlapping).containsExactly(3L);
+    }
+
+    @Test
+    void findOverlapping_ShouldSkipExcludedId() {
+        // Act
+        List<Long> overlapping = index.findOverlapping(base, base.plusHours(1), 1L);
+
+        // Assert
+        assertThat(overlapping).isEmpty();
+    }
+
+    @Test
+    void putAll_ShouldMoveAnUpdatedInterval() {
+        // Arrange: event 1 moves to the afternoon
+        index.putAll(List.of(new IndexedInterval(1L, base.plusHours(5), base.plusHours(6))));
+
+        // Act & Assert
+        assertThat(index.findOverlapping(base, base.plusHours(1), null)).isEmpty();
+        assertThat(index.findOverlapping(base.plusHours(5), base.plusHours(6), null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
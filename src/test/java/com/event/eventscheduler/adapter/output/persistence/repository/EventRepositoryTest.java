@@ -3,12 +3,35 @@ package com.event.eventscheduler.adapter.output.persistence.repository;
 
 import com.event.eventscheduler.AbstractIntegrationTest;
 import com.event.eventscheduler.adapter.output.persistence.entity.EventEntity;
+import com.event.eventscheduler.adapter.output.persistence.entity.RecurrenceRuleEntity;
+import com.event.eventscheduler.adapter.output.persistence.projection.EventRow;
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import javax.sql.DataSource;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 
 public class EventRepositoryTest extends AbstractIntegrationTest {
@@ -16,6 +39,15 @@ public class EventRepositoryTest extends AbstractIntegrationTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private RecurrenceRuleRepository recurrenceRuleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     void shouldSaveAndRetrieveEvent() {
         // Arrange
@@ -49,11 +81,224 @@ public class EventRepositoryTest extends AbstractIntegrationTest {
         // Act
         var conflicts = eventRepository.findConflictingEvents(
                 start.plusHours(1),
-                end.plusHours(1)
+                end.plusHours(1),
+                eventRepository.findLongestDuration()
         );
 
         // Assert
         assertThat(conflicts).hasSize(1);
         assertThat(conflicts.get(0).getTitle()).isEqualTo("Existing Event");
     }
+
+    @Test
+    void shouldFindConflictingSingleEventsForManySlotsInOneQuery() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 2, 3, 10, 0);
+
+        EventEntity existingEvent = new EventEntity();
+        existingEvent.setTitle("Existing Weekly Slot");
+        existingEvent.setStartDate(start.plusWeeks(2));
+        existingEvent.setEndDate(start.plusWeeks(2).plusHours(1));
+        eventRepository.save(existingEvent);
+
+        // Series rows are compared rule against rule, so this one must not be returned
+        EventEntity seriesRow = entity("Series Occurrence", start.plusWeeks(1));
+        seriesRow.setRecurrenceRuleEntity(recurrenceRuleRepository.save(rule(DayOfWeek.MONDAY, start.toLocalDate(), null)));
+        eventRepository.save(seriesRow);
+
+        List<TimeSlot> candidateSlots = List.of(
+                new TimeSlot(start, start.plusHours(1)),
+                new TimeSlot(start.plusWeeks(1), start.plusWeeks(1).plusHours(1)),
+                new TimeSlot(start.plusWeeks(2).plusMinutes(30), start.plusWeeks(2).plusMinutes(90)),
+                new TimeSlot(start.plusWeeks(2).minusMinutes(30), start.plusWeeks(2).plusMinutes(30))
+        );
+
+        // Act
+        var conflicts = eventRepository.findConflictingSingleEvents(candidateSlots);
+
+        // Assert
+        assertThat(conflicts).hasSize(1);
+        assertThat(conflicts.get(0).getTitle()).isEqualTo("Existing Weekly Slot");
+    }
+
+    @Test
+    void shouldSeekPastKeysetCursor() {
+        // Arrange: three back-to-back events
+        LocalDateTime start = LocalDateTime.of(2042, 1, 1, 8, 0);
+        List<EventEntity> saved = eventRepository.saveAll(List.of(
+                entity("First", start), entity("Second", start.plusHours(1)), entity("Third", start.plusHours(2))));
+
+        // Act
+        List<EventRow> page = eventRepository.findPageAfter(start, saved.get(0).getId(), Limit.of(1));
+
+        // Assert
+        assertThat(page).extracting(EventRow::title).containsExactly("Second");
+    }
+
+    @Test
+    void shouldFindEventsOverlappingIntoTheWindow() {
+        // Arrange: one event ends before the window, one starts before it and runs into it
+        LocalDateTime windowStart = LocalDateTime.of(2043, 6, 2, 0, 0);
+        eventRepository.saveAll(List.of(
+                entity("Earlier", windowStart.minusHours(3)),
+                entity("Overnight", windowStart.minusMinutes(30)),
+                entity("Inside", windowStart.plusHours(9))));
+
+        // Act
+        List<EventRow> found = eventRepository.findOverlapping(windowStart, windowStart.plusDays(1), eventRepository.findLongestDuration());
+
+        // Assert
+        assertThat(found).extracting(EventRow::title).containsExactly("Overnight", "Inside");
+    }
+
+    @Test
+    void shouldFindCandidateRulesByWeekdayTimeAndSpan() {
+        // Arrange
+        LocalDate start = LocalDate.of(2044, 1, 4);
+        recurrenceRuleRepository.saveAll(List.of(
+                rule(DayOfWeek.TUESDAY, start, null),
+                rule(DayOfWeek.WEDNESDAY, start, null),
+                rule(DayOfWeek.TUESDAY, start, start.plusWeeks(1))));
+
+        // Act
+        List<RecurrenceRuleEntity> found = recurrenceRuleRepository.findCandidateRules(
+                EnumSet.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), LocalTime.of(10, 30), LocalTime.of(11, 30),
+                start.plusWeeks(2), start.plusWeeks(3));
+
+        // Assert: the Wednesday series shares no day, the bounded Tuesday one has ended
+        assertThat(found).extracting(RecurrenceRuleEntity::getSeriesEndDate).containsExactly((LocalDate) null);
+        assertThat(found.get(0).getTitle()).isEqualTo("TUESDAY series");
+    }
+
+    @Test
+    void findByStartDateBetween_ShouldTouchOnlyThePartitionOfItsMonth() {
+        // Arrange: two adjacent monthly partitions with an event each
+        jdbcTemplate.queryForObject("SELECT ensure_event_partitions(?, ?)", Integer.class, LocalDate.of(2045, 3, 1), 2);
+        LocalDateTime march = LocalDateTime.of(2045, 3, 10, 9, 0);
+        eventRepository.saveAll(List.of(entity("March", march), entity("April", march.plusMonths(1))));
+
+        // Act: explain the statement Hibernate actually issued, with the values it bound
+        List<QueryInfo> issued = new ArrayList<>();
+        List<EventRow> found = capturingQueries(issued, () ->
+                eventRepository.findByStartDateBetween(march.toLocalDate().atStartOfDay(), march.toLocalDate().atTime(LocalTime.MAX)));
+
+        assertThat(issued).hasSize(1);
+        List<String> plan = explain("COSTS OFF", issued.get(0));
+
+        // Assert
+        assertThat(found).extracting(EventRow::title).containsExactly("March");
+        assertThat(String.join("\n", plan)).contains("event_2045_03").doesNotContain("event_2045_04").doesNotContain("event_default");
+    }
+
+    @Test
+    void findOverlapping_ShouldNotScanThePartitionsBeforeTheLongestEventCouldStart() {
+        // Arrange: an event two months before the window, and a three-day one running into it
+        jdbcTemplate.queryForObject("SELECT ensure_event_partitions(?, ?)", Integer.class, LocalDate.of(2046, 1, 1), 3);
+        EventEntity longEvent = entity("Long", LocalDateTime.of(2046, 2, 27, 9, 0));
+        longEvent.setEndDate(LocalDateTime.of(2046, 3, 2, 9, 0));
+        eventRepository.saveAll(List.of(entity("January", LocalDateTime.of(2046, 1, 5, 9, 0)), longEvent));
+        LocalDateTime windowStart = LocalDateTime.of(2046, 3, 1, 0, 0);
+
+        // Act
+        Duration longest = eventRepository.findLongestDuration();
+        List<QueryInfo> issued = new ArrayList<>();
+        List<EventRow> found = capturingQueries(issued, () -> eventRepository.findOverlapping(windowStart, windowStart.plusDays(1), longest));
+        List<String> plan = explain("COSTS OFF", issued.get(0));
+
+        // Assert: the bound is a bind parameter, so the January partition is left out of the plan altogether
+        assertThat(longest).isGreaterThanOrEqualTo(Duration.ofDays(3));
+        assertThat(found).extracting(EventRow::title).containsExactly("Long");
+        assertThat(plan).noneMatch(line -> line.contains("event_2046_01"));
+        assertThat(plan).anyMatch(line -> line.contains(" on event_2046_02 "));
+    }
+
+    @Test
+    void findOverlapping_ShouldNotReadThePartitionsBeforeTheLongestEvent_WhenTheStatementComputesIt() {
+        // Arrange: the same events as above, with no bound passed in
+        jdbcTemplate.queryForObject("SELECT ensure_event_partitions(?, ?)", Integer.class, LocalDate.of(2047, 1, 1), 3);
+        EventEntity longEvent = entity("Long", LocalDateTime.of(2047, 2, 27, 9, 0));
+        longEvent.setEndDate(LocalDateTime.of(2047, 3, 2, 9, 0));
+        eventRepository.saveAll(List.of(entity("January", LocalDateTime.of(2047, 1, 5, 9, 0)), longEvent));
+        LocalDateTime windowStart = LocalDateTime.of(2047, 3, 1, 0, 0);
+
+        // Act
+        List<QueryInfo> issued = new ArrayList<>();
+        List<EventRow> found = capturingQueries(issued, () -> eventRepository.findOverlapping(windowStart, windowStart.plusDays(1), null));
+        List<String> plan = explain("ANALYZE, COSTS OFF, TIMING OFF", issued.get(0));
+
+        // Assert: the maximum is only known at execution, so January stays in the plan but is pruned before it is read
+        assertThat(found).extracting(EventRow::title).containsExactly("Long");
+        assertThat(plan).anyMatch(line -> line.contains(" on event_2047_01 ") && line.contains("never executed"));
+        assertThat(plan).anyMatch(line -> line.contains(" on event_2047_02 ") && !line.contains("never executed"));
+    }
+
+    @Test
+    void shouldRejectOverlapAcrossMonthlyPartitions() {
+        // Arrange: an overnight event running from the last day of May into June
+        jdbcTemplate.queryForObject("SELECT ensure_event_partitions(?, ?)", Integer.class, LocalDate.of(2045, 5, 1), 2);
+        EventEntity overnight = entity("Overnight", LocalDateTime.of(2045, 5, 31, 23, 0));
+        overnight.setEndDate(LocalDateTime.of(2045, 6, 1, 2, 0));
+        eventRepository.saveAndFlush(overnight);
+
+        // Act & Assert: the partitions' own exclusion constraints cannot see each other, the trigger does
+        assertThatThrownBy(() -> eventRepository.saveAndFlush(entity("Early June", LocalDateTime.of(2045, 6, 1, 1, 0))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * Explains a recorded statement with the values it was executed with.
+     */
+    private List<String> explain(String options, QueryInfo statement) {
+        Object[] parameters = statement.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toArray();
+        return jdbcTemplate.queryForList("EXPLAIN (" + options + ") " + statement.getQuery(), String.class, parameters);
+    }
+
+    /**
+     * Runs the action with a listener on the proxied data source that records every statement it executes.
+     */
+    private <T> T capturingQueries(List<QueryInfo> issued, Supplier<T> action) {
+        ChainListener listeners = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        QueryExecutionListener recorder = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                issued.addAll(queryInfoList);
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+        };
+
+        listeners.addListener(recorder);
+        try {
+            return action.get();
+        } finally {
+            listeners.getListeners().remove(recorder);
+        }
+    }
+
+    private RecurrenceRuleEntity rule(DayOfWeek day, LocalDate startDate, LocalDate seriesEndDate) {
+        RecurrenceRuleEntity rule = new RecurrenceRuleEntity();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(1);
+        rule.setByDay(EnumSet.of(day));
+        rule.setOccurrenceDays(EnumSet.of(day));
+        rule.setStartDate(startDate);
+        rule.setStartTime(LocalTime.of(10, 0));
+        rule.setEndTime(LocalTime.of(11, 0));
+        rule.setTitle(day + " series");
+        rule.setSeriesEndDate(seriesEndDate);
+        return rule;
+    }
+
+    private EventEntity entity(String title, LocalDateTime start) {
+        EventEntity event = new EventEntity();
+        event.setTitle(title);
+        event.setStartDate(start);
+        event.setEndDate(start.plusHours(1));
+        return event;
+    }
 }
@@ -0,0 +1,108 @@
+package com.event.eventscheduler.config.metrics;
+
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.port.input.CreateCyclicEventUseCase;
+import com.event.eventscheduler.domain.port.input.CreateEventUseCase;
+import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SchedulerMetricsAspectTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 11, 10, 9, 0);
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void useCase_ShouldTimeCallAndCountConflicts() {
+        // Arrange
+        CreateEventUseCase target = mock(CreateEventUseCase.class);
+        when(target.createSingleEvent(any())).thenThrow(new ScheduleConflictException("Overlap"));
+        CreateEventUseCase useCase = proxy(target);
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.createSingleEvent(new CreateSingleEventCommand()))
+                .isInstanceOf(ScheduleConflictException.class);
+
+        assertThat(registry.get(SchedulerMetricsAspect.USE_CASE_TIMER)
+                .tags("method", "createSingleEvent", "exception", "ScheduleConflictException")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(SchedulerMetricsAspect.CONFLICTS)
+                .tag("method", "createSingleEvent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void useCase_ShouldRecordOccurrencesPerSeries() {
+        // Arrange
+        CreateCyclicEventUseCase target = mock(CreateCyclicEventUseCase.class);
+        when(target.createCyclicEvent(any())).thenReturn(List.of(event(), event(), event()));
+        CreateCyclicEventUseCase useCase = proxy(target);
+
+        // Act
+        useCase.createCyclicEvent(new CreateCyclicEventCommand());
+
+        // Assert
+        assertThat(registry.get(SchedulerMetricsAspect.SERIES_OCCURRENCES).summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void port_ShouldRecordRowsReturnedAndStreamed() {
+        // Arrange
+        EventRepositoryPort target = mock(EventRepositoryPort.class);
+        when(target.findOverlapping(any(), any())).thenReturn(List.of(event(), event()));
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(0);
+            consumer.accept(event());
+            consumer.accept(event());
+            consumer.accept(event());
+            return null;
+        }).when(target).streamAll(any());
+        EventRepositoryPort port = proxy(target);
+        List<Event> streamed = new ArrayList<>();
+
+        // Act
+        port.findOverlapping(START, START.plusDays(1));
+        port.streamAll(streamed::add);
+
+        // Assert
+        assertThat(streamed).hasSize(3);
+        assertThat(registry.get(SchedulerMetricsAspect.PORT_TIMER).tag("method", "findOverlapping").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get(SchedulerMetricsAspect.PORT_ROWS).tag("method", "findOverlapping").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(registry.get(SchedulerMetricsAspect.PORT_ROWS).tag("method", "streamAll").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new SchedulerMetricsAspect(registry));
+        return factory.getProxy();
+    }
+
+    private static Event event() {
+        return new Event(null, "Meeting", START, START.plusHours(1), null);
+    }
+}
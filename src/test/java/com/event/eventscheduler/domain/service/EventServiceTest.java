@@ -2,28 +2,45 @@ package com.event.eventscheduler.domain.service;
 
 import com.event.eventscheduler.domain.exception.ResourceNotFoundException;
 import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
 import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.model.EventCursor;
+import com.event.eventscheduler.domain.model.EventPage;
+import com.event.eventscheduler.domain.model.Frequency;
 import com.event.eventscheduler.domain.model.RecurrenceRule;
+import com.event.eventscheduler.domain.model.TimeSlot;
+import com.event.eventscheduler.domain.port.input.command.CalendarImportItem;
 import com.event.eventscheduler.domain.port.input.command.CreateCyclicEventCommand;
 import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
 import com.event.eventscheduler.domain.port.input.command.RecurrenceRuleCommand;
 import com.event.eventscheduler.domain.port.input.command.UpdateEventCommand;
 import com.event.eventscheduler.domain.port.output.EventRepositoryPort;
 import com.event.eventscheduler.domain.port.output.RecurrenceRuleRepositoryPort;
+import com.event.eventscheduler.domain.port.output.ScheduleChangeNotifierPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +58,9 @@ public class EventServiceTest {
     @Mock
     private RecurrenceRuleRepositoryPort recurrenceRuleRepositoryPort;
 
+    @Mock
+    private ScheduleChangeNotifierPort scheduleChangeNotifierPort;
+
     // Our test data will be DOMAIN objects, not DTOs or Entities
     private CreateSingleEventCommand createCommand;
     private Event event;
@@ -100,6 +120,39 @@ public class EventServiceTest {
         verify(eventRepositoryPort, never()).save(any(Event.class));
     }
 
+    @Test
+    void createSingleEvent_ShouldSkipConflictQuery_WhenStoreRejectsOverlaps() {
+        // Arrange
+        when(eventRepositoryPort.rejectsOverlappingWrites()).thenReturn(true);
+        when(eventRepositoryPort.save(any(Event.class))).thenReturn(event);
+
+        // Act
+        Event result = eventService.createSingleEvent(createCommand);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(eventRepositoryPort, never()).findConflictingEvents(any(), any());
+        verify(recurrenceRuleRepositoryPort).findVirtualRulesActiveBetween(any(), any());
+    }
+
+    @Test
+    void createSingleEvent_ShouldRejectZeroLengthEvent_WhetherOrNotTheStoreRejectsOverlaps() {
+        // Arrange: an instant inside an hour that is already taken
+        LocalDateTime ten = LocalDateTime.of(2030, 1, 1, 10, 0);
+        CreateSingleEventCommand instant = new CreateSingleEventCommand("Instant", ten.plusMinutes(30), ten.plusMinutes(30));
+        lenient().when(eventRepositoryPort.findConflictingEvents(any(), any())).thenReturn(List.of(new Event(1L, "Busy", ten, ten.plusHours(1), null)));
+
+        for (boolean storeRejectsOverlaps : List.of(true, false)) {
+            lenient().when(eventRepositoryPort.rejectsOverlappingWrites()).thenReturn(storeRejectsOverlaps);
+
+            // Act & Assert: refused the same way on both settings, one at a time and in bulk
+            assertThrows(IllegalArgumentException.class, () -> eventService.createSingleEvent(instant));
+            assertEquals(BulkItemStatus.INVALID, eventService.createEvents(List.of(instant), BulkImportMode.PARTIAL).get(0).getStatus());
+        }
+        verify(eventRepositoryPort, never()).save(any(Event.class));
+        verify(eventRepositoryPort, never()).saveAll(anyList());
+    }
+
     @Test
     void updateEvent_ShouldUpdateEvent_WhenNoConflict() {
         // Arrange
@@ -148,16 +201,16 @@ public class EventServiceTest {
     @Test
     void createCyclicEvent_ShouldGenerateAndSaveMultipleEvents() {
         // Arrange
-        RecurrenceRuleCommand ruleCommand = new RecurrenceRuleCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(1), LocalTime.NOON, LocalTime.NOON.plusHours(1));
-        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Cyclic Test", ruleCommand);
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(1));
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Cyclic Test", ruleCommand, false);
 
-        RecurrenceRule savedRule = new RecurrenceRule(1L, ruleCommand.getDayOfWeek(), ruleCommand.getRepeatUntilDate(), ruleCommand.getStartTime(), ruleCommand.getEndTime());
+        RecurrenceRule savedRule = weeklyRule(1L, DayOfWeek.MONDAY, LocalTime.NOON, LocalTime.NOON.plusHours(1), "Cyclic Test", LocalDate.now(), false);
 
         // Mock saving the rule
         when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenReturn(savedRule);
 
-        // Mock conflict check
-        when(eventRepositoryPort.findConflictingEvents(any(), any())).thenReturn(Collections.emptyList());
+        // Mock the batched conflict check
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenReturn(Collections.emptyList());
 
         // Mock saving all events
         when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
@@ -171,10 +224,276 @@ public class EventServiceTest {
         assertEquals("Cyclic Test", results.get(0).getTitle());
 
         verify(recurrenceRuleRepositoryPort, times(1)).save(any(RecurrenceRule.class));
-        verify(eventRepositoryPort, atLeastOnce()).findConflictingEvents(any(), any());
+        // The whole series is checked in one call, never once per occurrence
+        verify(eventRepositoryPort, times(1)).findConflictingSingleEvents(anyList());
+        verify(eventRepositoryPort, never()).findConflictingEvents(any(), any());
         verify(eventRepositoryPort, times(1)).saveAll(anyList());
     }
 
+    @Test
+    void createCyclicEvent_ShouldThrowScheduleConflictException_WhenAnyOccurrenceConflicts() {
+        // Arrange
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4));
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Cyclic Test", ruleCommand, false);
+
+        // Mock the batched conflict check: "one of the occurrences overlaps"
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenReturn(List.of(new Event()));
+
+        // Act & Assert
+        assertThrows(ScheduleConflictException.class, () -> {
+            eventService.createCyclicEvent(cyclicCommand);
+        });
+
+        // Neither the rule nor any occurrence is written
+        verify(recurrenceRuleRepositoryPort, never()).save(any(RecurrenceRule.class));
+        verify(eventRepositoryPort, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createCyclicEvent_ShouldThrowScheduleConflictException_WhenAnotherSeriesSharesAnOccurrence() {
+        // Arrange: an open-ended Monday series at the same hour is already stored
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4));
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Cyclic Test", ruleCommand, false);
+
+        RecurrenceRule stored = weeklyRule(9L, DayOfWeek.MONDAY, LocalTime.NOON, LocalTime.NOON.plusHours(1), "Stored", LocalDate.now().minusWeeks(2), false);
+        when(recurrenceRuleRepositoryPort.findCandidateRules(any(), any(), any(), any(), any())).thenReturn(List.of(stored));
+
+        // Act & Assert
+        assertThrows(ScheduleConflictException.class, () -> eventService.createCyclicEvent(cyclicCommand));
+
+        // Decided from the two rules alone: no occurrence query and nothing written
+        verify(eventRepositoryPort, never()).findConflictingSingleEvents(anyList());
+        verify(recurrenceRuleRepositoryPort, never()).save(any(RecurrenceRule.class));
+    }
+
+    @Test
+    void createCyclicEvent_ShouldThrowScheduleConflictException_WhenAnOpenEndedSeriesStartsPastTheGeneratedYear() {
+        // Arrange: both series run every Monday at noon forever; the stored one only starts in 18 months
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, null);
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Cyclic Test", ruleCommand, true);
+
+        RecurrenceRule stored = weeklyRule(9L, DayOfWeek.MONDAY, LocalTime.NOON, LocalTime.NOON.plusHours(1), "Stored", LocalDate.now().plusMonths(18), true);
+        when(recurrenceRuleRepositoryPort.findCandidateRules(any(), any(), any(), any(), eq(RecurrenceExpander.NO_END))).thenReturn(List.of(stored));
+
+        // Act & Assert: the rules are compared over their whole span, not the year of occurrences generated
+        assertThrows(ScheduleConflictException.class, () -> eventService.createCyclicEvent(cyclicCommand));
+        verify(recurrenceRuleRepositoryPort, never()).save(any(RecurrenceRule.class));
+    }
+
+    @Test
+    void createCyclicEvent_ShouldStoreOnlyTheRule_WhenVirtual() {
+        // Arrange
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, null);
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Virtual Test", ruleCommand, true);
+
+        when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenAnswer(i -> {
+            RecurrenceRule rule = i.getArgument(0);
+            rule.setId(7L);
+            return rule;
+        });
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenReturn(Collections.emptyList());
+
+        // Act
+        List<Event> results = eventService.createCyclicEvent(cyclicCommand);
+
+        // Assert: the first year is returned, but no event row is written
+        assertEquals(52, results.size(), 1);
+        assertTrue(results.stream().allMatch(e -> e.getId() == null && e.getRecurrenceRule().getId() == 7L));
+        verify(eventRepositoryPort, never()).saveAll(anyList());
+    }
+
+    @Test
+    void getEventsForDate_ShouldExpandVirtualSeries_AndSkipOverriddenOccurrences() {
+        // Arrange
+        LocalDate monday = LocalDate.of(2025, 11, 10);
+        RecurrenceRule weekly = weeklyRule(3L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", monday.minusWeeks(4), true);
+        RecurrenceRule otherWeekly = weeklyRule(4L, DayOfWeek.MONDAY, LocalTime.of(15, 0), LocalTime.of(16, 0), "Review", monday.minusWeeks(4), true);
+
+        // A materialized override of rule 4 on that date
+        Event override = new Event(20L, "Review (moved)", monday.atTime(16, 0), monday.atTime(17, 0), otherWeekly);
+
+        when(eventRepositoryPort.findByStartDateBetween(any(), any())).thenReturn(List.of(override));
+        when(recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(monday, monday)).thenReturn(List.of(weekly, otherWeekly));
+
+        // Act
+        List<Event> results = eventService.getEventsForDate(monday);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertTrue(results.contains(override));
+        assertTrue(results.stream().anyMatch(e -> e.getId() == null && e.getTitle().equals("Standup")
+                && e.getStartDate().equals(monday.atTime(9, 0))));
+    }
+
+    @Test
+    void findPage_ShouldMergeVirtualOccurrences_AndReturnNextCursor() {
+        // Arrange
+        LocalDate monday = LocalDate.of(2025, 11, 10);
+        RecurrenceRule weekly = weeklyRule(3L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", monday.minusWeeks(4), true);
+        Event early = new Event(10L, "Early", monday.atTime(8, 0), monday.atTime(8, 30), null);
+        Event late = new Event(11L, "Late", monday.atTime(11, 0), monday.atTime(12, 0), null);
+        EventCursor after = new EventCursor(monday.atTime(7, 0), 5L);
+
+        when(eventRepositoryPort.findPageAfter(after, 2)).thenReturn(List.of(early, late));
+        when(eventRepositoryPort.findByStartDateBetween(any(), any())).thenReturn(List.of(early, late));
+        when(recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(monday, monday)).thenReturn(List.of(weekly));
+
+        // Act
+        EventPage page = eventService.findPage(after, 2);
+
+        // Assert
+        assertEquals(List.of("Early", "Standup"), page.getEvents().stream().map(Event::getTitle).toList());
+        assertEquals(monday.atTime(9, 0), page.getNext().getStartDate());
+        assertEquals(-3L, page.getNext().getKey());
+    }
+
+    @Test
+    void streamAll_ShouldAppendVirtualOccurrences_ExceptOverridden() {
+        // Arrange: a three-week virtual series, one occurrence overridden by a stored row
+        LocalDate monday = LocalDate.of(2025, 11, 10);
+        RecurrenceRule weekly = weeklyRule(3L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", monday, true);
+        weekly.setCount(3);
+        Event override = new Event(20L, "Standup (moved)", monday.plusWeeks(1).atTime(10, 0), monday.plusWeeks(1).atTime(10, 30), weekly);
+
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(0);
+            consumer.accept(override);
+            return null;
+        }).when(eventRepositoryPort).streamAll(any());
+        when(recurrenceRuleRepositoryPort.findAllVirtualRules()).thenReturn(List.of(weekly));
+
+        List<Event> streamed = new ArrayList<>();
+
+        // Act
+        eventService.streamAll(streamed::add);
+
+        // Assert
+        assertEquals(List.of(monday.plusWeeks(1).atTime(10, 0), monday.atTime(9, 0), monday.plusWeeks(2).atTime(9, 0)),
+                streamed.stream().map(Event::getStartDate).toList());
+    }
+
+    @Test
+    void listings_ShouldCutOpenEndedSeries_AtTheSameHorizon_WheneverTheyStarted() {
+        // Arrange: a weekly virtual series without an end that started two years ago
+        LocalDate start = LocalDate.now().minusYears(2);
+        RecurrenceRule weekly = weeklyRule(3L, start.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", start, true);
+        LocalDate horizon = eventService.listingHorizon();
+
+        doAnswer(invocation -> null).when(eventRepositoryPort).streamAll(any());
+        when(recurrenceRuleRepositoryPort.findAllVirtualRules()).thenReturn(List.of(weekly));
+        List<Event> streamed = new ArrayList<>();
+
+        // Act
+        List<Event> listed = eventService.findAll();
+        EventPage page = eventService.findPage(null, 1000);
+        eventService.streamAll(streamed::add);
+
+        // Assert: all three list up to the horizon past today, not one year after the series started
+        LocalDate last = listed.get(listed.size() - 1).getStartDate().toLocalDate();
+        assertTrue(last.isBefore(horizon) && !last.plusWeeks(1).isBefore(horizon));
+        assertEquals(horizon, page.getListedUntil());
+        assertEquals(listed.stream().map(Event::getStartDate).toList(), page.getEvents().stream().map(Event::getStartDate).toList());
+        assertEquals(listed.stream().map(Event::getStartDate).toList(), streamed.stream().map(Event::getStartDate).toList());
+    }
+
+    @Test
+    void listings_ShouldListADailySeries_StartedOverAThousandDaysAgo_UpToTheHorizon() {
+        // Arrange: a daily virtual series without an end, with more occurrences before the horizon than MAX_EVENTS
+        LocalDate start = LocalDate.now().minusDays(1100);
+        RecurrenceRule daily = weeklyRule(3L, start.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", start, true);
+        daily.setFrequency(Frequency.DAILY);
+        daily.setByDay(EnumSet.noneOf(DayOfWeek.class));
+        LocalDate horizon = eventService.listingHorizon();
+
+        doAnswer(invocation -> null).when(eventRepositoryPort).streamAll(any());
+        when(recurrenceRuleRepositoryPort.findAllVirtualRules()).thenReturn(List.of(daily));
+        when(recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(any(), any())).thenReturn(List.of(daily));
+        List<Event> streamed = new ArrayList<>();
+
+        // Act: page through the whole listing
+        List<Event> listed = eventService.findAll();
+        eventService.streamAll(streamed::add);
+        List<Event> paged = new ArrayList<>();
+        EventCursor next = null;
+        do {
+            EventPage page = eventService.findPage(next, 500);
+            paged.addAll(page.getEvents());
+            next = page.getNext();
+        } while (next != null);
+
+        // Assert: every day from the start up to the horizon, the same in all three
+        assertEquals(start.until(horizon, ChronoUnit.DAYS), listed.size());
+        assertEquals(horizon.minusDays(1), listed.get(listed.size() - 1).getStartDate().toLocalDate());
+        assertEquals(listed.stream().map(Event::getStartDate).toList(), streamed.stream().map(Event::getStartDate).toList());
+        assertEquals(listed.stream().map(Event::getStartDate).toList(), paged.stream().map(Event::getStartDate).toList());
+    }
+
+    @Test
+    void getEventsByDay_ShouldListOvernightEventUnderEveryDayItOverlaps() {
+        // Arrange: a night shift that began before the window
+        LocalDate monday = LocalDate.of(2025, 11, 10);
+        Event nightShift = new Event(7L, "Night Shift", monday.minusDays(1).atTime(22, 0), monday.atTime(6, 0), null);
+        Event lateCall = new Event(8L, "Late Call", monday.atTime(23, 0), monday.plusDays(1).atTime(1, 0), null);
+
+        when(eventRepositoryPort.findOverlapping(monday.atStartOfDay(), monday.plusDays(3).atStartOfDay()))
+                .thenReturn(List.of(nightShift, lateCall));
+
+        // Act
+        Map<LocalDate, List<Event>> byDay = eventService.getEventsByDay(monday, monday.plusDays(2));
+
+        // Assert
+        assertEquals(List.of(monday, monday.plusDays(1), monday.plusDays(2)), List.copyOf(byDay.keySet()));
+        assertEquals(List.of(nightShift, lateCall), byDay.get(monday));
+        assertEquals(List.of(lateCall), byDay.get(monday.plusDays(1)));
+        assertTrue(byDay.get(monday.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    void getEventsBetween_ShouldRejectTooWideRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            eventService.getEventsBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        });
+
+        verify(eventRepositoryPort, never()).findOverlapping(any(), any());
+    }
+
+    @Test
+    void updateEvent_ShouldNotifyTheDaysItLeavesAndTheDaysItMovesTo() {
+        // Arrange: an event on the 10th moved overnight to the 12th-13th
+        LocalDate tenth = LocalDate.of(2025, 11, 10);
+        event.setStartDate(tenth.atTime(9, 0));
+        event.setEndDate(tenth.atTime(10, 0));
+        UpdateEventCommand moveCommand = new UpdateEventCommand(1L, "Moved", tenth.plusDays(2).atTime(23, 0), tenth.plusDays(3).atTime(1, 0));
+
+        when(eventRepositoryPort.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepositoryPort.save(any(Event.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        eventService.updateEvent(moveCommand);
+
+        // Assert
+        verify(scheduleChangeNotifierPort).daysChanged(Set.of(tenth, tenth.plusDays(2), tenth.plusDays(3)));
+    }
+
+    @Test
+    void createSingleEvent_ShouldThrowScheduleConflictException_WhenOverlappingVirtualSeries() {
+        // Arrange
+        LocalDate monday = LocalDate.of(2025, 11, 10);
+        RecurrenceRule weekly = weeklyRule(3L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30), "Standup", monday.minusWeeks(4), true);
+        CreateSingleEventCommand overlapping = new CreateSingleEventCommand("Clash", monday.atTime(9, 15), monday.atTime(10, 0));
+
+        when(eventRepositoryPort.findConflictingEvents(any(), any())).thenReturn(Collections.emptyList());
+        when(recurrenceRuleRepositoryPort.findVirtualRulesActiveBetween(monday, monday)).thenReturn(List.of(weekly));
+
+        // Act & Assert
+        assertThrows(ScheduleConflictException.class, () -> {
+            eventService.createSingleEvent(overlapping);
+        });
+
+        verify(eventRepositoryPort, never()).save(any(Event.class));
+    }
+
     @Test
     void getEventsForDate_ShouldCallPort() {
         // Arrange
@@ -189,4 +508,291 @@ public class EventServiceTest {
         assertEquals(1, results.size());
         verify(eventRepositoryPort, times(1)).findByStartDateBetween(targetDate.atStartOfDay(), targetDate.atTime(LocalTime.MAX));
     }
+
+    @Test
+    void createCyclicEvent_ShouldRejectCountTogetherWithUntil() {
+        // Arrange
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4));
+        ruleCommand.setCount(3);
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Invalid", ruleCommand, false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            eventService.createCyclicEvent(cyclicCommand);
+        });
+
+        verify(recurrenceRuleRepositoryPort, never()).save(any(RecurrenceRule.class));
+    }
+
+    @Test
+    void createCyclicEvent_ShouldHonourByDayAndCount() {
+        // Arrange: Monday and Wednesday, 5 occurrences
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, null);
+        ruleCommand.setByDay(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        ruleCommand.setCount(5);
+        ruleCommand.setStartDate(LocalDate.of(2030, 1, 1));    // a Tuesday
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Twice Weekly", ruleCommand, false);
+
+        when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenAnswer(i -> i.getArgument(0));
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenReturn(Collections.emptyList());
+        when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        List<Event> results = eventService.createCyclicEvent(cyclicCommand);
+
+        // Assert
+        assertEquals(List.of(
+                LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 9),
+                LocalDate.of(2030, 1, 14), LocalDate.of(2030, 1, 16)),
+                results.stream().map(e -> e.getStartDate().toLocalDate()).toList());
+    }
+
+    @Test
+    void createCyclicEvent_ShouldStoreOnlyTheFirstHorizonChunk_WhenMaterialized() {
+        // Arrange: an open-ended weekly series starting today
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, null);
+        CreateCyclicEventCommand cyclicCommand = new CreateCyclicEventCommand("Rolling", ruleCommand, false);
+
+        when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenAnswer(i -> i.getArgument(0));
+        when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        List<Event> results = eventService.createCyclicEvent(cyclicCommand);
+
+        // Assert: twelve weeks are written, the rest of the first year was only checked and is answered without ids
+        LocalDate horizon = LocalDate.now().plusWeeks(12);
+        verify(eventRepositoryPort).saveAll(argThat(events -> events.size() == 12
+                && events.stream().allMatch(e -> e.getStartDate().toLocalDate().isBefore(horizon))));
+        assertTrue(results.size() > 50);
+        assertEquals(horizon, results.get(0).getRecurrenceRule().getMaterializedUntil());
+        assertNull(results.get(0).getRecurrenceRule().getSeriesEndDate());
+        // Reads expand it past the first year, so every day from its start is reported changed
+        verify(scheduleChangeNotifierPort).daysChangedFrom(LocalDate.now());
+        verify(scheduleChangeNotifierPort, never()).daysChanged(any());
+    }
+
+    @Test
+    void materializeAhead_ShouldStoreUpToTheHorizon_AndRecordSkippedClashesAsExDates() {
+        // Arrange: stored up to a Monday, one single event sits on the second Monday after it
+        LocalDate watermark = LocalDate.of(2030, 1, 7);
+        LocalDate horizon = watermark.plusWeeks(4);
+        RecurrenceRule rule = weeklyRule(5L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), "Standup", watermark.minusWeeks(12), false);
+        rule.setMaterializedUntil(watermark);
+
+        Event single = new Event(1L, "Offsite", watermark.plusWeeks(1).atTime(8, 0), watermark.plusWeeks(1).atTime(12, 0), null);
+        when(recurrenceRuleRepositoryPort.findRulesToMaterialize(horizon, 10)).thenReturn(List.of(rule));
+        when(recurrenceRuleRepositoryPort.advanceMaterializedUntil(5L, watermark, horizon)).thenReturn(true);
+        when(eventRepositoryPort.findOverlapping(any(), any())).thenReturn(List.of(single));
+
+        // Act
+        int handled = eventService.materializeAhead(horizon, 10);
+
+        // Assert
+        assertEquals(1, handled);
+        verify(eventRepositoryPort).saveAll(argThat(events -> events.stream().map(e -> e.getStartDate().toLocalDate()).toList()
+                .equals(List.of(watermark, watermark.plusWeeks(2), watermark.plusWeeks(3)))));
+        verify(recurrenceRuleRepositoryPort).addExDates(5L, Set.of(watermark.plusWeeks(1)));
+        // The skipped Monday was shown as part of the tail until now, so its day changes too
+        verify(scheduleChangeNotifierPort).daysChanged(Set.of(watermark, watermark.plusWeeks(1), watermark.plusWeeks(2), watermark.plusWeeks(3)));
+    }
+
+    @Test
+    void createEvents_Partial_ShouldRejectIntraBatchOverlapAndSaveTheRest() {
+        // Arrange
+        LocalDateTime nine = LocalDateTime.of(2030, 1, 1, 9, 0);
+        List<CreateSingleEventCommand> commands = List.of(
+                new CreateSingleEventCommand("A", nine, nine.plusHours(1)),
+                new CreateSingleEventCommand("B", nine.plusMinutes(30), nine.plusMinutes(90)),
+                new CreateSingleEventCommand("C", nine.plusHours(2), nine.plusHours(3)),
+                new CreateSingleEventCommand("D", nine.plusHours(5), nine.plusHours(4)));
+
+        when(eventRepositoryPort.findOverlapping(nine, nine.plusHours(3))).thenReturn(Collections.emptyList());
+        when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        List<BulkItemResult> results = eventService.createEvents(commands, BulkImportMode.PARTIAL);
+
+        // Assert
+        assertEquals(List.of(BulkItemStatus.CREATED, BulkItemStatus.CONFLICT, BulkItemStatus.CREATED, BulkItemStatus.INVALID),
+                results.stream().map(BulkItemResult::getStatus).toList());
+        assertEquals("C", results.get(2).getEvent().getTitle());
+        verify(eventRepositoryPort, times(1)).findOverlapping(any(), any());
+        verify(eventRepositoryPort, times(1)).saveAll(argThat(events -> events.size() == 2));
+        verify(eventRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    void createEvents_AllOrNothing_ShouldSaveNothingWhenAStoredEventConflicts() {
+        // Arrange
+        LocalDateTime nine = LocalDateTime.of(2030, 1, 1, 9, 0);
+        List<CreateSingleEventCommand> commands = List.of(
+                new CreateSingleEventCommand("A", nine, nine.plusHours(1)),
+                new CreateSingleEventCommand("B", nine.plusHours(2), nine.plusHours(3)));
+
+        Event stored = new Event(9L, "Stored", nine.plusMinutes(150), nine.plusHours(4), null);
+        when(eventRepositoryPort.findOverlapping(nine, nine.plusHours(3))).thenReturn(List.of(stored));
+
+        // Act
+        List<BulkItemResult> results = eventService.createEvents(commands, BulkImportMode.ALL_OR_NOTHING);
+
+        // Assert
+        assertEquals(List.of(BulkItemStatus.SKIPPED, BulkItemStatus.CONFLICT),
+                results.stream().map(BulkItemResult::getStatus).toList());
+        verify(eventRepositoryPort, never()).saveAll(anyList());
+        verify(scheduleChangeNotifierPort, never()).daysChanged(any());
+    }
+
+    @Test
+    void importBatch_ShouldCreateWhatFits_AndReportTheRestByBatchIndex() {
+        // Arrange: a single event, a series clashing with a stored event, and a series with both COUNT and UNTIL
+        LocalDateTime nine = LocalDateTime.of(2030, 1, 1, 9, 0);
+        RecurrenceRuleCommand invalidRule = weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4));
+        invalidRule.setCount(3);
+        List<CalendarImportItem> items = List.of(
+                new CalendarImportItem(null, new CreateCyclicEventCommand("Clashing", weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4)), false)),
+                new CalendarImportItem(new CreateSingleEventCommand("Single", nine, nine.plusHours(1)), null),
+                new CalendarImportItem(null, new CreateCyclicEventCommand("Invalid", invalidRule, false)));
+
+        when(eventRepositoryPort.findOverlapping(any(), any())).thenReturn(Collections.emptyList());
+        when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenAnswer(i -> {
+            TimeSlot first = i.<List<TimeSlot>>getArgument(0).get(0);
+            Event stored = new Event();
+            stored.setStartDate(first.getStart());
+            stored.setEndDate(first.getEnd());
+            return List.of(stored);
+        });
+
+        // Act
+        List<BulkItemResult> results = eventService.importBatch(items);
+
+        // Assert: one failing series does not undo the rest of the batch
+        assertEquals(List.of(BulkItemStatus.CONFLICT, BulkItemStatus.CREATED, BulkItemStatus.INVALID),
+                results.stream().map(BulkItemResult::getStatus).toList());
+        assertEquals(List.of(0, 1, 2), results.stream().map(BulkItemResult::getIndex).toList());
+        assertEquals("Single", results.get(1).getEvent().getTitle());
+        verify(eventRepositoryPort, times(1)).saveAll(argThat(events -> events.size() == 1));
+        verify(recurrenceRuleRepositoryPort, never()).save(any(RecurrenceRule.class));
+    }
+
+    @Test
+    void importBatch_ShouldCheckTheSeriesTogether_WithOneQueryEach() {
+        // Arrange: two Monday series at the same time and a Tuesday one, none clashing with the store
+        List<CalendarImportItem> items = List.of(
+                new CalendarImportItem(null, new CreateCyclicEventCommand("First", weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(4)), true)),
+                new CalendarImportItem(null, new CreateCyclicEventCommand("Same slot", weeklyCommand(DayOfWeek.MONDAY, LocalDate.now().plusWeeks(6)), true)),
+                new CalendarImportItem(null, new CreateCyclicEventCommand("Tuesday", weeklyCommand(DayOfWeek.TUESDAY, LocalDate.now().plusWeeks(4)), true)));
+
+        when(recurrenceRuleRepositoryPort.findCandidateRules(any(), any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        when(eventRepositoryPort.findConflictingSingleEvents(anyList())).thenReturn(Collections.emptyList());
+        when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        List<BulkItemResult> results = eventService.importBatch(items);
+
+        // Assert: the second series clashes with the first of the same batch; the store is asked once for all three
+        assertEquals(List.of(BulkItemStatus.CREATED, BulkItemStatus.CONFLICT, BulkItemStatus.CREATED),
+                results.stream().map(BulkItemResult::getStatus).toList());
+        verify(recurrenceRuleRepositoryPort, times(1)).findCandidateRules(
+                eq(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY)), any(), any(), any(), any());
+        verify(eventRepositoryPort, times(1)).findConflictingSingleEvents(anyList());
+        verify(recurrenceRuleRepositoryPort, times(2)).save(any(RecurrenceRule.class));
+    }
+
+    @Test
+    void findAll_ShouldListAMaterializedSeries_PastItsHorizon() {
+        // Arrange: a 20-week series created with a two-week horizon stores only its first rows
+        ReflectionTestUtils.setField(eventService, "horizonWeeks", 2);
+        RecurrenceRuleCommand ruleCommand = weeklyCommand(DayOfWeek.MONDAY, null);
+        ruleCommand.setCount(20);
+
+        List<RecurrenceRule> savedRules = new ArrayList<>();
+        List<Event> storedRows = new ArrayList<>();
+        when(recurrenceRuleRepositoryPort.save(any(RecurrenceRule.class))).thenAnswer(i -> {
+            RecurrenceRule rule = i.getArgument(0);
+            rule.setId(5L);
+            savedRules.add(rule);
+            return rule;
+        });
+        when(eventRepositoryPort.saveAll(anyList())).thenAnswer(i -> {
+            storedRows.addAll(i.getArgument(0));
+            return i.getArgument(0);
+        });
+        List<Event> created = eventService.createCyclicEvent(new CreateCyclicEventCommand("Weekly", ruleCommand, false));
+
+        when(eventRepositoryPort.findAll()).thenReturn(storedRows);
+        when(eventRepositoryPort.findPageAfter(null, 100)).thenReturn(storedRows);
+        when(recurrenceRuleRepositoryPort.findAllUnmaterializedRules()).thenReturn(savedRules);
+
+        // Act
+        List<Event> listed = eventService.findAll();
+        EventPage page = eventService.findPage(null, 100);
+
+        // Assert: the stored rows plus the tail expanded on read, each date once; creation answers with all 20
+        assertTrue(storedRows.size() < 20);
+        assertEquals(20, created.size());
+        assertEquals(20, listed.stream().map(e -> e.getStartDate().toLocalDate()).distinct().count());
+        assertEquals(20, listed.size());
+        assertEquals(20, page.getEvents().size());
+    }
+
+    @Test
+    void findFreeSlots_ShouldReturnGapsInsideWorkingHours() {
+        // Arrange
+        LocalDate first = LocalDate.of(2030, 1, 1);
+        when(eventRepositoryPort.findOverlapping(first.atStartOfDay(), first.plusDays(2).atStartOfDay())).thenReturn(List.of(
+                new Event(1L, "A", first.atTime(10, 0), first.atTime(11, 0), null),
+                new Event(2L, "B", first.atTime(10, 30), first.atTime(12, 0), null),
+                new Event(3L, "C", first.atTime(16, 30), first.atTime(18, 0), null),
+                new Event(4L, "Overnight", first.atTime(23, 0), first.plusDays(1).atTime(9, 30), null)));
+
+        // Act
+        List<TimeSlot> free = eventService.findFreeSlots(first, first.plusDays(1), Duration.ofHours(1), LocalTime.of(9, 0), LocalTime.of(17, 0));
+
+        // Assert
+        assertEquals(List.of(
+                        first.atTime(9, 0) + "/" + first.atTime(10, 0),
+                        first.atTime(12, 0) + "/" + first.atTime(16, 30),
+                        first.plusDays(1).atTime(9, 30) + "/" + first.plusDays(1).atTime(17, 0)),
+                free.stream().map(slot -> slot.getStart() + "/" + slot.getEnd()).toList());
+        verify(eventRepositoryPort, times(1)).findOverlapping(any(), any());
+    }
+
+    @Test
+    void findAvailableSlots_ShouldCutBackToBackSlotsAcrossDays() {
+        // Arrange
+        LocalDateTime after = LocalDateTime.of(2030, 1, 1, 9, 0);
+        when(eventRepositoryPort.findOverlapping(after, after.plusDays(62))).thenReturn(List.of(
+                new Event(1L, "Busy", after.plusHours(1), after.plusHours(2), null)));
+
+        // Act
+        List<TimeSlot> slots = eventService.findAvailableSlots(after, Duration.ofHours(1), 3, LocalTime.of(9, 0), LocalTime.of(12, 0));
+
+        // Assert
+        assertEquals(List.of(after, after.plusHours(2), after.plusDays(1)),
+                slots.stream().map(TimeSlot::getStart).toList());
+    }
+
+    private RecurrenceRuleCommand weeklyCommand(DayOfWeek day, LocalDate repeatUntilDate) {
+        RecurrenceRuleCommand command = new RecurrenceRuleCommand();
+        command.setFrequency(Frequency.WEEKLY);
+        command.setByDay(Set.of(day));
+        command.setRepeatUntilDate(repeatUntilDate);
+        command.setStartTime(LocalTime.NOON);
+        command.setEndTime(LocalTime.NOON.plusHours(1));
+        return command;
+    }
+
+    private RecurrenceRule weeklyRule(Long id, DayOfWeek day, LocalTime start, LocalTime end, String title, LocalDate startDate, boolean virtual) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setId(id);
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setByDay(EnumSet.of(day));
+        rule.setStartTime(start);
+        rule.setEndTime(end);
+        rule.setTitle(title);
+        rule.setStartDate(startDate);
+        rule.setVirtual(virtual);
+        return rule;
+    }
 }
@@ -0,0 +1,156 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.exception.ScheduleConflictException;
+import com.event.eventscheduler.domain.model.BulkImportMode;
+import com.event.eventscheduler.domain.model.BulkItemResult;
+import com.event.eventscheduler.domain.model.BulkItemStatus;
+import com.event.eventscheduler.domain.model.Event;
+import com.event.eventscheduler.domain.port.input.BulkCreateEventsUseCase;
+import com.event.eventscheduler.domain.port.input.command.CreateSingleEventCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class GroupCommitCreateEventServiceTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final BulkCreateEventsUseCase bulkCreateEventsUseCase = mock(BulkCreateEventsUseCase.class);
+    private GroupCommitCreateEventService service;
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void createSingleEvent_ShouldCommitConcurrentCallersAsOneBatch() throws Exception {
+        // Arrange: the window is long enough for all three callers to join the same batch
+        service = new GroupCommitCreateEventService(bulkCreateEventsUseCase, 500, 3, 10_000);
+        service.start();
+        when(bulkCreateEventsUseCase.createEvents(anyList(), eq(BulkImportMode.PARTIAL))).thenAnswer(invocation -> {
+            List<CreateSingleEventCommand> commands = invocation.getArgument(0);
+            List<BulkItemResult> results = new ArrayList<>();
+            for (int i = 0; i < commands.size(); i++) {
+                results.add("Clash".equals(commands.get(i).getTitle())
+                        ? new BulkItemResult(i, BulkItemStatus.CONFLICT, null, "Overlaps item 0 of the same batch.")
+                        : new BulkItemResult(i, BulkItemStatus.CREATED, eventFor(commands.get(i)), null));
+            }
+            return results;
+        });
+
+        // Act
+        CompletableFuture<Event> first = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("First", 0)));
+        CompletableFuture<Event> second = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("Second", 2)));
+        CompletableFuture<Event> clash = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("Clash", 0)));
+
+        // Assert
+        assertEquals("First", first.get(5, TimeUnit.SECONDS).getTitle());
+        assertEquals("Second", second.get(5, TimeUnit.SECONDS).getTitle());
+        CompletionException failure = assertThrows(CompletionException.class, clash::join);
+        assertInstanceOf(ScheduleConflictException.class, failure.getCause());
+        verify(bulkCreateEventsUseCase, times(1)).createEvents(argThat(commands -> commands.size() == 3), any());
+    }
+
+    @Test
+    void createSingleEvent_ShouldRetryAloneWhenItsBatchFails() throws Exception {
+        // Arrange
+        service = new GroupCommitCreateEventService(bulkCreateEventsUseCase, 500, 2, 10_000);
+        service.start();
+        when(bulkCreateEventsUseCase.createEvents(anyList(), eq(BulkImportMode.PARTIAL))).thenAnswer(invocation -> {
+            List<CreateSingleEventCommand> commands = invocation.getArgument(0);
+            if (commands.size() > 1) {
+                throw new ScheduleConflictException("Schedule conflict detected.");
+            }
+            return List.of(new BulkItemResult(0, BulkItemStatus.CREATED, eventFor(commands.get(0)), null));
+        });
+
+        // Act
+        CompletableFuture<Event> first = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("First", 0)));
+        CompletableFuture<Event> second = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("Second", 2)));
+
+        // Assert
+        assertEquals("First", first.get(5, TimeUnit.SECONDS).getTitle());
+        assertEquals("Second", second.get(5, TimeUnit.SECONDS).getTitle());
+        verify(bulkCreateEventsUseCase, times(3)).createEvents(anyList(), any());
+    }
+
+    @Test
+    void stop_ShouldLetTheFlushInProgressFinish_WithoutInterruptingIt() throws Exception {
+        // Arrange: the batch insert is under way when the context stops
+        service = new GroupCommitCreateEventService(bulkCreateEventsUseCase, 1, 1, 10_000);
+        service.start();
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        List<Boolean> interruptedDuringFlush = new ArrayList<>();
+        when(bulkCreateEventsUseCase.createEvents(anyList(), eq(BulkImportMode.PARTIAL))).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            releaseFlush.await(10, TimeUnit.SECONDS);
+            interruptedDuringFlush.add(Thread.currentThread().isInterrupted());
+            return List.of(new BulkItemResult(0, BulkItemStatus.CREATED, eventFor(command("Busy", 0)), null));
+        });
+        CompletableFuture<Event> busy = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("Busy", 0)));
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+
+        // Act: stop while the flush is still running, then let it complete
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(service::stop);
+        Thread.sleep(200);
+        releaseFlush.countDown();
+        stopping.get(5, TimeUnit.SECONDS);
+
+        // Assert: the caller gets its event, and the flush was never interrupted
+        assertEquals("Busy", busy.get(5, TimeUnit.SECONDS).getTitle());
+        assertEquals(List.of(false), interruptedDuringFlush);
+        assertFalse(service.isRunning());
+    }
+
+    @Test
+    void stop_ShouldFailPendingCallers_WhenTheFlushOutlastsTheTimeout() throws Exception {
+        // Arrange: the batch insert hangs until the test releases it
+        service = new GroupCommitCreateEventService(bulkCreateEventsUseCase, 1, 1, 100);
+        service.start();
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        when(bulkCreateEventsUseCase.createEvents(anyList(), eq(BulkImportMode.PARTIAL))).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            releaseFlush.await(10, TimeUnit.SECONDS);
+            return List.of(new BulkItemResult(0, BulkItemStatus.CREATED, eventFor(command("Stuck", 0)), null));
+        });
+        CompletableFuture<Event> stuck = CompletableFuture.supplyAsync(() -> service.createSingleEvent(command("Stuck", 0)));
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+
+        try {
+            // Act
+            service.stop();
+
+            // Assert
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> stuck.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertFalse(service.isRunning());
+        } finally {
+            releaseFlush.countDown();
+        }
+    }
+
+    private static CreateSingleEventCommand command(String title, int hoursAfterNine) {
+        LocalDateTime start = NINE.plusHours(hoursAfterNine);
+        return new CreateSingleEventCommand(title, start, start.plusHours(1));
+    }
+
+    private static Event eventFor(CreateSingleEventCommand command) {
+        return new Event(1L, command.getTitle(), command.getStartDate(), command.getEndDate(), null);
+    }
+}
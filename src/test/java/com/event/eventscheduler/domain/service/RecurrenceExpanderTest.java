@@ -0,0 +1,113 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecurrenceExpanderTest {
+
+    // 2025-01-01 is a Wednesday
+    private static final LocalDate DTSTART = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void daily_WithInterval_ShouldSkipDays() {
+        RecurrenceRule rule = rule(Frequency.DAILY, 3);
+
+        assertEquals(List.of(DTSTART, DTSTART.plusDays(3), DTSTART.plusDays(6)),
+                expand(rule, DTSTART, DTSTART.plusDays(9)));
+    }
+
+    @Test
+    void weekly_WithMultipleDays_ShouldExpandEachWeek() {
+        RecurrenceRule rule = rule(Frequency.WEEKLY, 1);
+        rule.setByDay(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10)),
+                expand(rule, DTSTART, LocalDate.of(2025, 1, 13)));
+    }
+
+    @Test
+    void weekly_EveryOtherWeek_ShouldStayAlignedToDtstartWhenJumpingIntoAWindow() {
+        RecurrenceRule rule = rule(Frequency.WEEKLY, 2);
+
+        // Occurrences are Jan 1, Jan 15, Jan 29, Feb 12 ... ; the window starts mid-series
+        assertEquals(List.of(LocalDate.of(2025, 1, 29), LocalDate.of(2025, 2, 12)),
+                expand(rule, LocalDate.of(2025, 1, 20), LocalDate.of(2025, 2, 20)));
+    }
+
+    @Test
+    void monthly_OnThe31st_ShouldSkipShorterMonths() {
+        RecurrenceRule rule = rule(Frequency.MONTHLY, 1);
+        rule.setStartDate(LocalDate.of(2025, 1, 31));
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 5, 31)),
+                expand(rule, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 1)));
+    }
+
+    @Test
+    void yearly_ShouldRepeatOnTheSameDay() {
+        RecurrenceRule rule = rule(Frequency.YEARLY, 1);
+
+        assertEquals(List.of(DTSTART, DTSTART.plusYears(1), DTSTART.plusYears(2)),
+                expand(rule, DTSTART, DTSTART.plusYears(3)));
+    }
+
+    @Test
+    void count_ShouldIncludeOccurrencesBeforeTheWindow_AndExdates() {
+        RecurrenceRule rule = rule(Frequency.DAILY, 1);
+        rule.setCount(5);
+        rule.setExDates(Set.of(DTSTART.plusDays(3)));
+
+        // Days 0..4 are the series; day 3 is excluded but still counted
+        assertEquals(List.of(DTSTART.plusDays(2), DTSTART.plusDays(4)),
+                expand(rule, DTSTART.plusDays(2), DTSTART.plusDays(30)));
+    }
+
+    @Test
+    void until_ShouldBeInclusive() {
+        RecurrenceRule rule = rule(Frequency.WEEKLY, 1);
+        rule.setRepeatUntilDate(DTSTART.plusWeeks(2));
+
+        assertEquals(List.of(DTSTART, DTSTART.plusWeeks(1), DTSTART.plusWeeks(2)),
+                expand(rule, DTSTART, DTSTART.plusYears(1)));
+    }
+
+    @Test
+    void occurrenceDates_ShouldBeLazy() {
+        RecurrenceRule rule = rule(Frequency.DAILY, 1);
+
+        // An effectively unbounded window only costs the occurrences actually consumed
+        Iterator<LocalDate> dates = RecurrenceExpander.occurrenceDates(rule, DTSTART, RecurrenceExpander.NO_END);
+
+        assertEquals(DTSTART, dates.next());
+        assertEquals(DTSTART.plusDays(1), dates.next());
+        assertTrue(dates.hasNext());
+    }
+
+    private RecurrenceRule rule(Frequency frequency, int interval) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(frequency);
+        rule.setInterval(interval);
+        rule.setStartDate(DTSTART);
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
+        return rule;
+    }
+
+    private List<LocalDate> expand(RecurrenceRule rule, LocalDate from, LocalDate toExclusive) {
+        List<LocalDate> dates = new ArrayList<>();
+        RecurrenceExpander.occurrenceDates(rule, from, toExclusive).forEachRemaining(dates::add);
+        return dates;
+    }
+}
@@ -0,0 +1,87 @@
+package com.event.eventscheduler.domain.service;
+
+import com.event.eventscheduler.domain.model.Frequency;
+import com.event.eventscheduler.domain.model.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuleOverlapTest {
+
+    // 2025-01-06 is a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+    private static final LocalDate NEXT_YEAR = MONDAY.plusYears(1);
+
+    @Test
+    void denseRules_ShouldOverlapOnlyWhenDaysAndTimesIntersect() {
+        RecurrenceRule mondays = weekly(1, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule mondayAndFriday = weekly(1, MONDAY, LocalTime.of(9, 30), LocalTime.of(11, 0), DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        RecurrenceRule tuesdays = weekly(1, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.TUESDAY);
+        RecurrenceRule mondayAfternoons = weekly(1, MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0), DayOfWeek.MONDAY);
+
+        assertTrue(RuleOverlap.overlaps(mondays, NEXT_YEAR, mondayAndFriday));
+        assertFalse(RuleOverlap.overlaps(mondays, NEXT_YEAR, tuesdays));
+        assertFalse(RuleOverlap.overlaps(mondays, NEXT_YEAR, mondayAfternoons));
+    }
+
+    @Test
+    void denseRules_ShouldNotOverlap_WhenTheSharedSpanHoldsNoCommonWeekday() {
+        // Stored series ran Monday to Wednesday of the first week only
+        RecurrenceRule daily = daily(MONDAY);
+        daily.setSeriesEndDate(MONDAY.plusDays(3));
+        RecurrenceRule fridays = weekly(1, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.FRIDAY);
+
+        assertFalse(RuleOverlap.overlaps(fridays, NEXT_YEAR, daily));
+    }
+
+    @Test
+    void alternateWeeks_ShouldBeWalked_WhenIntervalIsNotOne() {
+        RecurrenceRule evenWeeks = weekly(2, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule oddWeeks = weekly(2, MONDAY.plusWeeks(1), LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule everyMonday = weekly(1, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+
+        assertFalse(RuleOverlap.overlaps(evenWeeks, NEXT_YEAR, oddWeeks));
+        assertTrue(RuleOverlap.overlaps(oddWeeks, NEXT_YEAR, everyMonday));
+    }
+
+    @Test
+    void openEndedRules_ShouldBeComparedPastTheFirstYear_AndStopWalkingAfterOnePeriod() {
+        RecurrenceRule mondays = weekly(1, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule laterMondays = weekly(1, MONDAY.plusMonths(18), LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule evenWeeks = weekly(2, MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule oddWeeks = weekly(2, MONDAY.plusWeeks(1), LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+        RecurrenceRule laterOddWeeks = weekly(2, MONDAY.plusYears(3).with(DayOfWeek.MONDAY), LocalTime.of(9, 0), LocalTime.of(10, 0), DayOfWeek.MONDAY);
+
+        assertTrue(RuleOverlap.overlaps(mondays, RecurrenceExpander.NO_END, laterMondays));
+        assertFalse(RuleOverlap.overlaps(mondays, NEXT_YEAR, laterMondays));
+        assertFalse(RuleOverlap.overlaps(evenWeeks, RecurrenceExpander.NO_END, oddWeeks));
+        assertEquals(ChronoUnit.WEEKS.between(MONDAY, laterOddWeeks.getStartDate()) % 2 == 0,
+                RuleOverlap.overlaps(evenWeeks, RecurrenceExpander.NO_END, laterOddWeeks));
+    }
+
+    private RecurrenceRule weekly(int interval, LocalDate startDate, LocalTime start, LocalTime end, DayOfWeek first, DayOfWeek... rest) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(interval);
+        rule.setByDay(EnumSet.of(first, rest));
+        rule.setStartDate(startDate);
+        rule.setStartTime(start);
+        rule.setEndTime(end);
+        return rule;
+    }
+
+    private RecurrenceRule daily(LocalDate startDate) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setStartDate(startDate);
+        rule.setStartTime(LocalTime.of(9, 0));
+        rule.setEndTime(LocalTime.of(10, 0));
+        return rule;
+    }
+}